@@ -41,15 +41,26 @@ public class MiniMath {
 	private MiniMath() {}
 	
 	/**
-	 * This array is holding the powers of two for instructions in
-	 * {@code intPower()} and {@code intPowerNoLimits()} methods
-	 */
-	private static long[] intPwr = 
-	{
-		1073741824l, 536870912l, 268435456l, 134217728l, 67108864l, 
-		33554432l, 16777216l, 8388608l, 4194304l, 2097152l, 1048576l, 524288l, 
-		262144l, 131072l, 65536l, 32768l, 16384l, 8192l, 4096l, 2048l,
-		1024l, 512l, 256l, 128l, 64l, 32l, 16l, 8l, 4l, 2l
+	 * The maximum size of the window of power digits in {@code intPower()}
+	 * and {@code intPowerNoLimits()} methods
+	 */
+	private static final int MAX_WINDOW = 5;
+	
+	/**
+	 * The initial approximations of reciprocal for Newton's division
+	 * engine. Index is the 7 digits of divisor that are following its
+	 * leading '1', and the value is the 9 leading digits of reciprocal
+	 * of the middle of respective interval.
+	 */
+	private static final int[] RECIPROCAL_SEEDS = {
+		510, 506, 502, 498, 495, 491, 487, 484, 480, 477, 473, 470, 466, 463, 460, 457,
+		454, 450, 447, 444, 441, 438, 435, 433, 430, 427, 424, 421, 419, 416, 413, 411,
+		408, 406, 403, 401, 398, 396, 394, 391, 389, 387, 384, 382, 380, 378, 376, 373,
+		371, 369, 367, 365, 363, 361, 359, 357, 355, 353, 351, 350, 348, 346, 344, 342,
+		340, 339, 337, 335, 334, 332, 330, 329, 327, 325, 324, 322, 320, 319, 317, 316,
+		314, 313, 311, 310, 308, 307, 306, 304, 303, 301, 300, 299, 297, 296, 295, 293,
+		292, 291, 289, 288, 287, 286, 284, 283, 282, 281, 279, 278, 277, 276, 275, 274,
+		272, 271, 270, 269, 268, 267, 266, 265, 264, 263, 262, 261, 260, 259, 258, 257
 	};
 	
 	/**
@@ -61,8 +72,8 @@ public class MiniMath {
      * @param   power(p)   the exponent.
      * @return  the value {@code n}<sup>{@code p}</sup>.
 	 */
-	public static Double pow(double number, double power) {	
-		return pow(new SlicedDouble(number), new SlicedDouble(power)).getIEEE754();
+	public static Double pow(double number, double power) {
+		return Primitive.pow(number, power);
 	}
 	
 	/**
@@ -83,71 +94,466 @@ public class MiniMath {
      * @return  the value {@code n}<sup>{@code p}</sup>.
 	 */
 	public static SlicedDouble pow(SlicedDouble number, SlicedDouble power) {
-		double numbernum = number.getIEEE754(), powernum = power.getIEEE754();
-		
-		if (power.getFractRaw().length() > 0 && number.isNegative()) 
-			return new SlicedDouble(Double.NaN);
-		
-		if (Double.isNaN(powernum) || Double.isNaN(numbernum))
-			return new SlicedDouble(Double.NaN);
-		else if (numbernum == 1) return number;
-		else if (powernum == 0.0) return new SlicedDouble(1.0);
-		else if (powernum == 1.0) return number;
-		else if (numbernum == 0.0 && !number.isNegative()) return new SlicedDouble(0.0);
-		else if (numbernum == -0.0) return new SlicedDouble(-0.0);
-		else if (numbernum == Double.POSITIVE_INFINITY || powernum == Double.POSITIVE_INFINITY) {
-			return new SlicedDouble(Double.POSITIVE_INFINITY);
-		} else if (numbernum == Double.NEGATIVE_INFINITY) {
-			if (!power.isOdd()) return new SlicedDouble(Double.POSITIVE_INFINITY);
-			else return new SlicedDouble(Double.NEGATIVE_INFINITY);
-		}
-		
-		SlicedDouble ipwr;
-		
-		if (power.getExp() > 0xffffffff) {
-			if (power.getExp() > 30) {
-				if ((power.isNegative() && number.getExp() < 0) ||
-					!power.isNegative() && number.getExp() >= 0) {
-					if (power.isOdd() && number.isNegative()) 
-						return new SlicedDouble(Double.NEGATIVE_INFINITY);
-					else return new SlicedDouble(Double.POSITIVE_INFINITY);
-				} else {
-					if (power.isOdd() && number.isNegative())
-						return new SlicedDouble(-0.0);
-					return new SlicedDouble(0.0);
+		return new PowPlan(power).apply(number);
+	}
+	
+	/**
+	 * Returns the plan of raising to the giving power, that can be
+	 * applied to many numbers. The power is decoded only once and
+	 * the results are the same as of {@code pow()} method.
+	 *
+	 * @param   power(p)   the exponent.
+	 * @return  the plan of raising to the power {@code p}.
+	 */
+	public static PowPlan powPlan(double power) {
+		return new PowPlan(SlicedDouble.valueOf(power));
+	}
+	
+	/**
+	 * Returns the plan of raising to the giving power, that can be
+	 * applied to many numbers. The power is decoded only once and
+	 * the results are the same as of {@code pow()} method.
+	 *
+	 * @param   power(p)   the exponent.
+	 * @return  the plan of raising to the power {@code p}.
+	 */
+	public static PowPlan powPlan(SlicedDouble power) {
+		return new PowPlan(power);
+	}
+	
+	/**
+	 * The plan of raising to the fixed power.
+	 *
+	 * <p>All that depends only on power: its special values, sign, oddness,
+	 * integer part with the size of window of its digits and the digits
+	 * of fractional part, is computed once when plan is created.
+	 *
+	 * <p>The plan do not change after creation, so it can be shared.
+	 */
+	public static class PowPlan {
+		
+		/**
+		 * The power
+		 */
+		private final SlicedDouble power;
+		
+		/**
+		 * The {@code double} value of power
+		 */
+		private final double powernum;
+		
+		/**
+		 * True if power has a fractional part
+		 */
+		private final boolean fraction;
+		
+		/**
+		 * True if power is negative
+		 */
+		private final boolean negative;
+		
+		/**
+		 * True if power is an odd integer
+		 */
+		private final boolean odd;
+		
+		/**
+		 * The exponent of power
+		 */
+		private final int powerexp;
+		
+		/**
+		 * The absolute value of integer part of power
+		 */
+		private final long ipwr;
+		
+		/**
+		 * The size of window of integer power digits
+		 */
+		private final int windowsize;
+		
+		/**
+		 * The fractional part of power digits
+		 */
+		private final long fractraw;
+		
+		/**
+		 * The number of digits in fractional part of power
+		 */
+		private final int fractlen;
+		
+		private PowPlan(SlicedDouble power) {
+			this.power = power;
+			this.powernum = this.power.getIEEE754();
+			this.fraction = this.power.hasFraction();
+			this.negative = this.power.isNegative();
+			this.odd = this.power.isOdd();
+			this.powerexp = this.power.getExponent();
+			this.ipwr = getIntPowerValue(this.power);
+			this.windowsize = getWindowSize(ipwr);
+			this.fractraw = this.power.getLongFractRaw();
+			this.fractlen = this.power.getFractLength();
+		}
+		
+		/**
+		 * Returns the value of the argument raised to the power of plan.
+		 *
+		 * @param   number(n)  the base.
+		 * @return  the value {@code n}<sup>{@code p}</sup>.
+		 */
+		public Double apply(double number) {
+			return apply(SlicedDouble.valueOf(number)).getIEEE754();
+		}
+		
+		/**
+		 * Puts to the results the values of numbers raised to the power of plan.
+		 *
+		 * @param   numbers  the bases.
+		 * @param   results  the array for the values {@code n}<sup>{@code p}</sup>
+		 *					 that must be not shorter than numbers.
+		 */
+		public void apply(double[] numbers, double[] results) {
+			for (int i = 0; i < numbers.length; i++) {
+				results[i] = apply(numbers[i]);
+			}
+		}
+		
+		/**
+		 * Returns the value of the argument raised to the power of plan.
+		 *
+		 * @param   number(n)  the base.
+		 * @return  the value {@code n}<sup>{@code p}</sup>.
+		 */
+		public SlicedDouble apply(SlicedDouble number) {
+			return apply(number, null);
+		}
+		
+		/**
+		 * Auxiliary method that raises the number to the power of plan.
+		 * If the plan of number is supplied, its cached powers and roots
+		 * are used.
+		 */
+		private SlicedDouble apply(SlicedDouble number, BasePlan baseplan) {
+			SlicedDouble special = getSpecialPower(number);
+			if (special != null) return special;
+			
+			SlicedDouble intpwr;
+			
+			// the power of two is raised to integer power by the multiplication of its exponent
+			if (!fraction && number.getLongRaw() == 1l) {
+				SlicedDouble result = getPowerOfTwo(number);
+				if (result != null) return result;
+			}
+			
+			if (powerexp > 0xffffffff) {
+				if (powerexp > 30) {
+					if ((negative && number.getExponent() < 0) ||
+						!negative && number.getExponent() >= 0) {
+						if (odd && number.isNegative()) 
+							return SlicedDouble.valueOf(Double.NEGATIVE_INFINITY);
+						else return SlicedDouble.valueOf(Double.POSITIVE_INFINITY);
+					} else {
+						if (odd && number.isNegative())
+							return SlicedDouble.valueOf(-0.0);
+						return SlicedDouble.valueOf(0.0);
+					}
 				}
+				
+				if (baseplan == null) intpwr = intPower(number, power, ipwr, windowsize);
+				else intpwr = baseplan.intPower(power, ipwr, windowsize);
+				
+				if (intpwr.getDouble() != null) {
+					if (negative) return getOppositeExtremum(intpwr);
+					else return intpwr;
+				}
+			} else {
+				intpwr = SlicedDouble.valueOf(1.0);
 			}
 			
-			ipwr = intPower(number, power);
+			SlicedDouble fpwr;
 			
-			if (ipwr.getDouble() != null) {
-				if (power.isNegative()) return getOppositeExtremum(ipwr);
-				else return ipwr;
+			if (fraction) {
+				if (baseplan == null) fpwr = getFractPower(number, fractraw, powerexp, fractlen);
+				else fpwr = baseplan.fractPower(fractraw, powerexp, fractlen);
+			} else {
+				fpwr = SlicedDouble.valueOf(1.0);
 			}
-		} else {
-			ipwr = new SlicedDouble(1.0);
+			
+			if (fpwr.getDouble() != null && fpwr.getDouble() != 1.0) {
+				if (negative) return getOppositeExtremum(fpwr);
+				else return fpwr;
+			}
+			
+			SlicedDouble finalproduct = innerMult(intpwr, fpwr, intpwr.getNegativeSign());
+			
+			if (negative) return reciprocal(finalproduct);
+			else return finalproduct;
 		}
-
-		SlicedDouble fpwr;
 		
-		if (power.getFractRaw().length() > 0) {
-			fpwr = fractPower(number, power);
-		} else {
-			fpwr = new SlicedDouble(1.0);
+		/**
+		 * Auxiliary method that returns the result for the special values
+		 * of number or power, the same as in {@code java.lang.Math.pow()}.
+		 * It returns null if there are no special values.
+		 */
+		private SlicedDouble getSpecialPower(SlicedDouble number) {
+			boolean one = number.getLongRaw() == 1l && number.getExponent() == 0;
+			
+			if (power.isZero()) {
+				return SlicedDouble.valueOf(1.0);
+			} else if (power.isNaN() || number.isNaN()) {
+				return SlicedDouble.valueOf(Double.NaN);
+			} else if (powernum == 1.0) {
+				return number;
+			} else if (power.isInfinite()) {
+				// the absolute value of number is greater than 1 or less
+				boolean greater = number.isInfinite() || !number.isZero() && number.getExponent() >= 0;
+				
+				if (one) return SlicedDouble.valueOf(Double.NaN);
+				else if (greater != negative) return SlicedDouble.valueOf(Double.POSITIVE_INFINITY);
+				else return SlicedDouble.valueOf(0.0);
+			} else if (one && !number.isNegative()) {
+				return number;
+			} else if (number.isZero() || number.isInfinite()) {
+				// zero and infinity are giving each other with negative power,
+				// and the sign is kept only with odd integer power
+				SlicedDouble result;
+				if (number.isZero() != negative) result = SlicedDouble.valueOf(0.0);
+				else result = SlicedDouble.valueOf(Double.POSITIVE_INFINITY);
+				
+				if (number.isNegative() && odd && !fraction) result = result.negate();
+				
+				return result;
+			} else if (fraction && number.isNegative()) {
+				return SlicedDouble.valueOf(Double.NaN);
+			}
+			
+			return null;
+		}
+		
+		/**
+		 * Auxiliary method that raises the power of two to the integer power of plan.
+		 * It returns null if the product of exponents is too long, and then
+		 * general way is needed.
+		 */
+		private SlicedDouble getPowerOfTwo(SlicedDouble number) {
+			long resultexp = multSmallIntegers(number.getExponent(), ipwr);
+			
+			if (resultexp == 0 && number.getExponent() != 0) return null;
+			
+			if (negative) resultexp = ~resultexp + 1;
+			
+			// here the extremum is already clear
+			if (resultexp > 0x7fffffffl) resultexp = 0x7fffffffl;
+			else if (resultexp < 0xffffffff80000000l) resultexp = 0xffffffff80000000l;
+			
+			boolean negativeresult = odd && number.isNegative();
+			SlicedDouble result = checkExponentExtremum(new SlicedDouble(1l, (int)resultexp, negativeresult), 
+				1024, -1075);
+			
+			if (result.getDouble() != null) {
+				if (negativeresult) result = result.withSign("-");
+			}
+			
+			return result;
+		}
+	}
+	
+	/**
+	 * Returns the plan of raising the giving number to many powers.
+	 * The powers of number that are used for integer part of power and
+	 * the roots of number that are used for fractional part are computed
+	 * only on the first demand and then are cached. The results are the same
+	 * as of {@code pow()} method.
+	 *
+	 * @param   number(n)  the base.
+	 * @return  the plan of raising the {@code n}.
+	 */
+	public static BasePlan basePlan(double number) {
+		return new BasePlan(SlicedDouble.valueOf(number));
+	}
+	
+	/**
+	 * Returns the plan of raising the giving number to many powers.
+	 * The powers of number that are used for integer part of power and
+	 * the roots of number that are used for fractional part are computed
+	 * only on the first demand and then are cached. The results are the same
+	 * as of {@code pow()} method.
+	 *
+	 * @param   number(n)  the base.
+	 * @return  the plan of raising the {@code n}.
+	 */
+	public static BasePlan basePlan(SlicedDouble number) {
+		return new BasePlan(number);
+	}
+	
+	/**
+	 * The plan of raising the fixed number to many powers.
+	 *
+	 * <p>It holds the ladder of odd powers of number for integer part
+	 * of power, and the ladder of successive square roots of number
+	 * for fractional part. Both of them are growing on demand.
+	 *
+	 * <p>The ladders are growing under the lock, so the plan can be shared.
+	 */
+	public static class BasePlan {
+		
+		/**
+		 * The number
+		 */
+		private final SlicedDouble number;
+		
+		/**
+		 * The odd powers of number: 1, 3, 5 ... up to (2^MAX_WINDOW - 1)
+		 */
+		private SlicedDouble[] oddpowers;
+		
+		/**
+		 * The successive square roots of number: roots[i] is the number
+		 * raised to the power 2^-(i+1)
+		 */
+		private SlicedDouble[] roots = new SlicedDouble[64];
+		
+		/**
+		 * The number of computed roots
+		 */
+		private int rootsnum;
+		
+		/**
+		 * True if the last root is the same as previous one, so all the next
+		 * roots are also the same and there is no need to compute them
+		 */
+		private boolean rootsend;
+		
+		private BasePlan(SlicedDouble number) {
+			this.number = number;
+		}
+		
+		/**
+		 * Returns the value of number of plan raised to the giving power.
+		 *
+		 * @param   power(p)   the exponent.
+		 * @return  the value {@code n}<sup>{@code p}</sup>.
+		 */
+		public Double apply(double power) {
+			return apply(SlicedDouble.valueOf(power)).getIEEE754();
+		}
+		
+		/**
+		 * Puts to the results the values of number of plan raised to the powers.
+		 *
+		 * @param   powers   the exponents.
+		 * @param   results  the array for the values {@code n}<sup>{@code p}</sup>
+		 *					 that must be not shorter than powers.
+		 */
+		public void apply(double[] powers, double[] results) {
+			for (int i = 0; i < powers.length; i++) {
+				results[i] = apply(powers[i]);
+			}
+		}
+		
+		/**
+		 * Returns the value of number of plan raised to the giving power.
+		 *
+		 * @param   power(p)   the exponent.
+		 * @return  the value {@code n}<sup>{@code p}</sup>.
+		 */
+		public SlicedDouble apply(SlicedDouble power) {
+			return new PowPlan(power).apply(number, this);
+		}
+		
+		/**
+		 * Auxiliary method that is doing the same as {@code MiniMath.intPower()}
+		 * with the cached odd powers of number.
+		 */
+		private SlicedDouble intPower(SlicedDouble power, long ipwr, int windowsize) {
+			if (isMinusOne(number)) {
+				if ((ipwr & 1) == 0) return SlicedDouble.valueOf(1.0);
+				else return SlicedDouble.valueOf(-1.0);
+			}
+			
+			SlicedDouble[] oddpowers = getOddPowers();
+			SlicedDouble result = null;
+			
+			// the same checks of odd powers that would be done on their computing
+			for (int i = 1, len = 1 << (windowsize + 0xffffffff); i < len; i++) {
+				result = getIntPowerResult(oddpowers[i], power);
+				if (result.getDouble() != null) break;
+			}
+			
+			if (result == null || result.getDouble() == null) {
+				result = raiseToIntPower(oddpowers, windowsize, ipwr, power, true);
+			}
+			
+			if (isNegative(number, power)) result = result.withSign("-");
+			
+			return result;
 		}
 		
-		if (fpwr.getDouble() != null && fpwr.getDouble() != 1.0) {
-			if (power.isNegative()) return getOppositeExtremum(fpwr);
-			else return fpwr;
+		/**
+		 * Auxiliary method that returns the odd powers of number computing
+		 * them on the first demand.
+		 */
+		private synchronized SlicedDouble[] getOddPowers() {
+			if (oddpowers == null) oddpowers = MiniMath.getOddPowers(number, MAX_WINDOW, null, false);
+			
+			return oddpowers;
 		}
 		
-		SlicedDouble finalproduct = innerMult(ipwr, fpwr, ipwr.getNegativeSign());
+		/**
+		 * Auxiliary method that is doing the same as {@code MiniMath.getFractPower()}
+		 * with the cached roots of number.
+		 */
+		private SlicedDouble fractPower(long powerraw, int powerexp, int fractlen) {
+			SlicedDouble result = SlicedDouble.valueOf(1.0), root;
+			int rootindex = 0;
+			
+			for (int i = 0xffffffff; i > powerexp; i += 0xffffffff) {
+				root = getRoot(rootindex++);
+				if (getFractPowerResult(root)) return result;
+			}
+			
+			for (int i = fractlen + 0xffffffff; i > 0xffffffff; i += 0xffffffff) {
+				root = getRoot(rootindex++);
+				if (getFractPowerResult(root)) return result;
+				
+				if (((powerraw >>> i) & 1l) == 1l) {
+					result = innerMult(root, result, "");
+					if (getFractPowerResult(root)) return result;
+				}
+			}
+			
+			return result;
+		}
 		
-		if (power.isNegative()) {
+		/**
+		 * Auxiliary method that returns the number raised to the power
+		 * 2^-(index+1) computing the roots on demand.
+		 */
+		private synchronized SlicedDouble getRoot(int index) {
+			while (rootsnum <= index && !rootsend) {
+				SlicedDouble root;
+				
+				if (rootsnum == 0) root = innerRoot(number);
+				else root = innerRoot(roots[rootsnum + 0xffffffff]);
+				
+				if (rootsnum > 0 && root.getLongRaw() == roots[rootsnum + 0xffffffff].getLongRaw() &&
+					root.getExponent() == roots[rootsnum + 0xffffffff].getExponent()) {
+					rootsend = true;
+					break;
+				}
+				
+				if (rootsnum == roots.length) {
+					SlicedDouble[] grown = new SlicedDouble[roots.length << 1];
+					for (int i = 0; i < roots.length; i++) grown[i] = roots[i];
+					roots = grown;
+				}
+				
+				roots[rootsnum++] = root;
+			}
 			
-			return innerDiv(new SlicedDouble(1.0), finalproduct, ipwr.getNegativeSign(), 0);
+			if (index < rootsnum) return roots[index];
+			else return roots[rootsnum + 0xffffffff];
 		}
-		else return finalproduct;
 	}
 	
 	/**
@@ -158,17 +564,17 @@ public class MiniMath {
 	private static SlicedDouble getOppositeExtremum(SlicedDouble number) {
 		if (number.getDouble() != null) {
 			if (number.getDouble() == Double.POSITIVE_INFINITY)
-				return new SlicedDouble(0.0);
+				return SlicedDouble.valueOf(0.0);
 			else if (number.getDouble() == Double.NEGATIVE_INFINITY)
-				return new SlicedDouble(-0.0);
+				return SlicedDouble.valueOf(-0.0);
 			else if (number.getDouble() == 0 && !number.isNegative())
-				return new SlicedDouble(Double.POSITIVE_INFINITY);
+				return SlicedDouble.valueOf(Double.POSITIVE_INFINITY);
 			else if (number.getDouble() == 0 && number.isNegative())
-				return new SlicedDouble(Double.NEGATIVE_INFINITY);
+				return SlicedDouble.valueOf(Double.NEGATIVE_INFINITY);
 			else
-				return new SlicedDouble(Double.NaN);
+				return SlicedDouble.valueOf(Double.NaN);
 		} else {
-			return new SlicedDouble(Double.NaN);
+			return SlicedDouble.valueOf(Double.NaN);
 		}
 	}
 	
@@ -176,46 +582,148 @@ public class MiniMath {
 	 * Returns the number after raising it to the specified integer number.
 	 */
 	private static SlicedDouble intPower(SlicedDouble number, SlicedDouble power) {
-		long ipwr = abs(power).getIntSD().getIEEE754().longValue();
-		SlicedDouble result = new SlicedDouble(1.0);
-
-		if (number.getIEEE754() == -1) {
-			if ((ipwr & 1) == 0) return result;
-			else return new SlicedDouble(-1.0);
+		long ipwr = getIntPowerValue(power);
+		
+		return intPower(number, power, ipwr, getWindowSize(ipwr));
+	}
+	
+	/**
+	 * Returns the number after raising it to the specified integer number,
+	 * that was already decoded to the ipwr with the suitable windowsize.
+	 */
+	private static SlicedDouble intPower(SlicedDouble number, SlicedDouble power, long ipwr, int windowsize) {
+		if (isMinusOne(number)) {
+			if ((ipwr & 1) == 0) return SlicedDouble.valueOf(1.0);
+			else return SlicedDouble.valueOf(-1.0);
 		}
 		
-		for (int i = 0; i < intPwr.length; i++) {
-			if ((ipwr & intPwr[i]) == intPwr[i]) {
-				result = innerMult(number, result, "");
-				result = getIntPowerResult(result, power);
+		SlicedDouble result = raiseToIntPower(getOddPowers(number, windowsize, power, true),
+			windowsize, ipwr, power, true);
+		
+		if (isNegative(number, power)) result = result.withSign("-");
+		
+		return result;
+	}
+	
+	/**
+	 * Auxiliary method that returns the size of the window of power
+	 * digits that is suitable for the giving integer power. It is chosen
+	 * so that the largest of precomputed odd powers is not greater than
+	 * the power itself.
+	 */
+	private static int getWindowSize(long ipwr) {
+		int ipwrlen = 64 + ~Long.numberOfLeadingZeros(ipwr) + 1;
+		
+		if (ipwrlen < 4) return 1;
+		else if (ipwrlen < 7) return 2;
+		else if (ipwrlen < 13) return 3;
+		else if (ipwrlen < 25) return 4;
+		else return MAX_WINDOW;
+	}
+	
+	/**
+	 * Auxiliary method that returns the odd powers of absolute value of
+	 * number: 1, 3, 5 ... up to (2^windowsize - 1). If limited is true
+	 * and some of them is over the limits, than the array with the only
+	 * extremum value is returned.
+	 */
+	private static SlicedDouble[] getOddPowers(SlicedDouble number, int windowsize, SlicedDouble power, boolean limited) {
+		if (number.isNaN()) return new SlicedDouble[] {SlicedDouble.valueOf(Double.NaN)};
+		else if (number.isInfinite()) return new SlicedDouble[] {SlicedDouble.valueOf(Double.POSITIVE_INFINITY)};
+		
+		SlicedDouble[] oddpowers = new SlicedDouble[1 << (windowsize + 0xffffffff)];
+		oddpowers[0] = new SlicedDouble(number.getLongRaw(), number.getExponent(), false);
+		
+		if (oddpowers.length == 1) return oddpowers;
+		
+		SlicedDouble square = innerSquare(oddpowers[0]);
+		
+		for (int i = 1; i < oddpowers.length; i++) {
+			oddpowers[i] = innerMult(oddpowers[i + 0xffffffff], square, "");
+			
+			if (limited) {
+				oddpowers[i] = getIntPowerResult(oddpowers[i], power);
+				if (oddpowers[i].getDouble() != null) return new SlicedDouble[] {oddpowers[i]};
+			}
+		}
+		
+		return oddpowers;
+	}
+	
+	/**
+	 * Auxiliary method that raises the number to the integer power with
+	 * the help of its precomputed odd powers. Digits of power are looked
+	 * from the highest to the lowest in the windows that are ending with '1',
+	 * and for each window result is squared by the number of its digits
+	 * and then is multiplied by the respective odd power. The zero digits
+	 * between windows are giving only the squaring.
+	 *
+	 * <p>If limited is true, all intermediate results are checked and the
+	 * extremum value is returned as soon as it is reached.
+	 */
+	private static SlicedDouble raiseToIntPower(SlicedDouble[] oddpowers, int windowsize, long ipwr, 
+		SlicedDouble power, boolean limited) {
+		if (ipwr == 0) return SlicedDouble.valueOf(1.0);
+		else if (oddpowers[0].getDouble() != null) return oddpowers[0];
+		
+		SlicedDouble result = null;
+		
+		for (int i = 64 + ~Long.numberOfLeadingZeros(ipwr), end, window; i > 0xffffffff; i = end + 0xffffffff) {
+			if (((ipwr >>> i) & 1l) == 0) {
+				result = innerSquare(result);
+				end = i;
+			} else {
+				// the window is ending with the lowest '1' that fits in it
+				end = i + ~windowsize + 2;
+				if (end < 0) end = 0;
+				while (((ipwr >>> end) & 1l) == 0) end++;
+				
+				window = (int)(ipwr >>> end) & ((1 << (i + ~end + 2)) + 0xffffffff);
 				
-				if (result.getDouble() != null) {
-					if (isNegative(number, power)) result.setSign("-");
-					return result;
+				if (result == null) {
+					result = oddpowers[window >>> 1];
+				} else {
+					for (int j = end; j <= i; j++) {
+						result = innerSquare(result);
+						if (limited) {
+							result = getIntPowerResult(result, power);
+							if (result.getDouble() != null) return result;
+						}
+					}
+					result = innerMult(result, oddpowers[window >>> 1], "");
 				}
 			}
-			result = innerMult(result, result, "");
-			result = getIntPowerResult(result, power);
 			
-			if (result.getDouble() != null) {
-				if (isNegative(number, power)) result.setSign("-");
-				return result;
+			if (limited) {
+				result = getIntPowerResult(result, power);
+				if (result.getDouble() != null) return result;
 			}
 		}
 		
-		if ((ipwr & 1l) == 1l) {
-			result = innerMult(number, result, "");
-			result = getIntPowerResult(result, power);
-		}
-		
-		if (result.getDouble() != null) {
-			if (isNegative(number, power)) result.setSign("-");
-			return result;
-		}
+		return result;
+	}
+	
+	/**
+	 * Returns the absolute value of integer part of the power as long.
+	 * If it is over the long limits or if the power is infinite, than
+	 * the maximum long value is returned.
+	 */
+	private static long getIntPowerValue(SlicedDouble power) {
+		if (power.isNaN()) return 0l;
+		else if (power.isInfinite() || power.getExponent() > 62) return Long.MAX_VALUE;
+		else if (power.getExponent() < 0) return 0l;
 		
-		if (isNegative(number, power)) result.setSign("-");
+		int shift = power.getExponent() + ~power.getRawLength() + 2;
 		
-		return result;
+		if (shift < 0) return power.getLongRaw() >>> (~shift + 1);
+		else return power.getLongRaw() << shift;
+	}
+	
+	/**
+	 * Returns whether or not number is -1.0
+	 */
+	private static boolean isMinusOne(SlicedDouble number) {
+		return number.isNegative() && number.getLongRaw() == 1l && number.getExponent() == 0;
 	}
 	
 	/**
@@ -232,7 +740,7 @@ public class MiniMath {
 	 */
 	private static SlicedDouble getIntPowerResult(SlicedDouble result, SlicedDouble power) {
 		// this check is for extremum values
-		if (result.getExp() > 1024 || result.getExp() < -1075) {
+		if (result.getExponent() > 1024 || result.getExponent() < -1075) {
 			// if power is negative there can be an exponent
 			// of denormal numbers, and to hold it correctly
 			// we must to accept powers over 1024 
@@ -250,10 +758,10 @@ public class MiniMath {
 	private static SlicedDouble checkExponentExtremum(SlicedDouble number, int max, int min) {
 		// here we only find the abs(extremum) without actual sign
 		// correct sign will be applied in the calling function
-		if (number.getExp() > max) {
-			return new SlicedDouble(Double.POSITIVE_INFINITY);
-		} else if (number.getExp() < min) {
-			return new SlicedDouble(0.0);
+		if (number.getExponent() > max) {
+			return SlicedDouble.valueOf(Double.POSITIVE_INFINITY);
+		} else if (number.getExponent() < min) {
+			return SlicedDouble.valueOf(0.0);
 		} else {
 			return number;
 		}
@@ -291,26 +799,18 @@ public class MiniMath {
      * @return  the value {@code n}<sup>{@code p}</sup>.
 	 */
 	public static SlicedDouble intPowerNoLimits(SlicedDouble number, SlicedDouble power) {
-		long ipwr = abs(power).getIntSD().getIEEE754().longValue();
-		SlicedDouble result = new SlicedDouble(1.0);
+		long ipwr = getIntPowerValue(power);
 
-		if (number.getIEEE754() == -1) {
-			if ((ipwr & 1) == 0) return result;
-			else return new SlicedDouble(-1.0);
+		if (isMinusOne(number)) {
+			if ((ipwr & 1) == 0) return SlicedDouble.valueOf(1.0);
+			else return SlicedDouble.valueOf(-1.0);
 		}
 		
-		for (int i = 0; i < intPwr.length; i++) {
-			if ((ipwr & intPwr[i]) == intPwr[i]) {
-				result = innerMult(number, result, "");
-			}
-			result = innerMult(result, result, "");
-		}
-		
-		if ((ipwr & 1l) == 1l) {
-			result = innerMult(number, result, "");
-		}
+		int windowsize = getWindowSize(ipwr);
+		SlicedDouble result = raiseToIntPower(getOddPowers(number, windowsize, power, false),
+			windowsize, ipwr, power, false);
 		
-		if (isNegative(number, power)) result.setSign("-");
+		if (isNegative(number, power)) result = result.withSign("-");
 		
 		return result;
 	}
@@ -323,8 +823,8 @@ public class MiniMath {
 	 *
 	 * @return {@code number1*number2}
 	 */
-	public static Double mult(double number1, double number2) {	
-		return mult(new SlicedDouble(number1), new SlicedDouble(number2)).getIEEE754();
+	public static Double mult(double number1, double number2) {
+		return Primitive.mult(number1, number2);
 	}
 	
 	/**
@@ -344,45 +844,47 @@ public class MiniMath {
 	 * @return the SlicedDouble that holds in value {@code number1*number2}
 	 */
 	public static SlicedDouble mult(SlicedDouble number1, SlicedDouble number2) {
+		return mult(number1, number2, null);
+	}
+	
+	/**
+	 * Auxiliary method that multiplies the numbers. If the recoded
+	 * multiplier is supplied, the number2 must be its constant, and the
+	 * product of mantissas is computed with the help of its digits.
+	 */
+	private static SlicedDouble mult(SlicedDouble number1, SlicedDouble number2, Multiplier multiplier) {
 		double factor1 = number1.getIEEE754(), factor2 = number2.getIEEE754();
 		
-		if (Double.isNaN(factor1) || Double.isNaN(factor2))	
-			return new SlicedDouble(Double.NaN);
-		else if (factor1 == 1) {
+		String negativesign = getPairSign(number1, number2);
+		
+		if (number1.isNaN() || number2.isNaN()) {
+			return SlicedDouble.valueOf(Double.NaN);
+		} else if (number1.isInfinite() || number2.isInfinite()) {
+			if (number1.isZero() || number2.isZero()) return SlicedDouble.valueOf(Double.NaN);
+			else if (negativesign.length() > 0) return SlicedDouble.valueOf(Double.NEGATIVE_INFINITY);
+			else return SlicedDouble.valueOf(Double.POSITIVE_INFINITY);
+		} else if (number1.isZero() || number2.isZero()) {
+			if (negativesign.length() > 0) return SlicedDouble.valueOf(-0.0);
+			else return SlicedDouble.valueOf(0.0);
+		} else if (factor1 == 1) {
 			return number2;
 		} else if (factor2 == 1) {
 			return number1;
 		} else if (factor1 == 0xffffffff) {
-			return new SlicedDouble(-factor2);
+			return SlicedDouble.valueOf(-factor2);
 		} else if (factor2 == 0xffffffff) {
-			return new SlicedDouble(-factor1);
-		} else if (factor1 == 0.0 && !number1.isNegative()) {
-			if (factor2 == Double.NEGATIVE_INFINITY || factor2 == Double.POSITIVE_INFINITY)
-				return new SlicedDouble(Double.NaN);
-			else if (number2.isNegative()) return new SlicedDouble(-0.0);
-			else return new SlicedDouble(0.0);
-		} else if (factor1 == -0.0) {
-			if (factor2 == Double.NEGATIVE_INFINITY || factor2 == Double.POSITIVE_INFINITY) 
-				return new SlicedDouble(Double.NaN);
-			else if (number2.isNegative()) return new SlicedDouble(0.0);
-			else return new SlicedDouble(-0.0);
-		} else if (factor1 == Double.POSITIVE_INFINITY) {
-			if (factor2 == 0.0) return new SlicedDouble(Double.NaN);
-			else if (number2.isNegative()) return new SlicedDouble(Double.NEGATIVE_INFINITY);
-			else return number1;
-		} else if (factor1 == Double.NEGATIVE_INFINITY) {
-			if (factor2 == 0.0) return new SlicedDouble(Double.NaN);
-			else if (number2.isNegative()) return new SlicedDouble(Double.POSITIVE_INFINITY);
-			else return number1;
-		} 
+			return SlicedDouble.valueOf(-factor1);
+		}
 		
-		String negativesign = getPairSign(number1, number2);
+		SlicedDouble result;
+		
+		if (multiplier == null) result = innerMult(number1, number2, negativesign);
+		else result = multiplier.multiply(number1, negativesign);
 		
-		SlicedDouble result = innerMult(number1, number2, negativesign);
 		result = checkExponentExtremum(result, 1024, -1075);
 		
 		if (result.getDouble() != null) {
-			if (negativesign.length() > 0) result.setSign("-");
+			if (negativesign.length() > 0) result = result.withSign("-");
 		}
 		
 		return result;
@@ -398,10 +900,33 @@ public class MiniMath {
 		return "-";
 	}
 	
+	/**
+	 * Auxiliary method that multiplies or divides the {@code double} number
+	 * by the power of two, that are both given by their bits, with only
+	 * the adjusting of exponent, and returns the bits of result. It returns 0
+	 * if one of them is not a normal number, or if the result would not be
+	 * a normal number, and then general way is needed.
+	 */
+	private static long getScaledBits(long bits, long powerbits, boolean division) {
+		int exp = (int)(bits >>> 52) & 0x7ff, powerexp = (int)(powerbits >>> 52) & 0x7ff;
+		
+		if (exp == 0 || exp == 0x7ff || powerexp == 0 || powerexp == 0x7ff) return 0l;
+		
+		if (division) exp += ~powerexp + 1024;
+		else exp += powerexp + 0xfffffc01;
+		
+		if (exp < 1 || exp > 0x7fe) return 0l;
+		
+		return ((bits ^ powerbits) & 0x8000000000000000l) | ((long)exp << 52) | (bits & 0x000fffffffffffffl);
+	}
+	
 	/**
 	 * Return {@code SlicedDouble} object that holds value of multiplication 
 	 * of values that inputs holds.
 	 *
+	 * <p>The full 128-bit product of mantissas is computed and then
+	 * it is rounded to 64 bits only once.
+	 *
 	 * <p>It can be used in a sheaf with {@code fractPower()} and {@code innerMult()}
 	 * methods to produce the same result as with using {@code pow()} method,
 	 * but without limitation of {@code double} type. The only limit that can happen
@@ -436,111 +961,740 @@ public class MiniMath {
 		// this is a check of getting Double.NaN after intermidiate operations
 		// with pure SlicedDouble. When using one-time instructions that
 		// do not include chains this check is not take any valuable part.
-		if (number1.getDouble() != null && Double.isNaN(number1.getDouble()))
+		if (number1.isNaN())
 			return number1;
-		else if (number2.getDouble() != null && Double.isNaN(number2.getDouble()))
+		else if (number2.isNaN())
 			return number2;
+		
+		// the multiplication by the power of two is only the sum of exponents
+		if (number2.getLongRaw() == 1l) 
+			return new SlicedDouble(number1.getLongRaw(), number1.getExponent() + number2.getExponent(),
+				!negativesign.isEmpty());
+		else if (number1.getLongRaw() == 1l)
+			return new SlicedDouble(number2.getLongRaw(), number1.getExponent() + number2.getExponent(),
+				!negativesign.isEmpty());
 
-		long product = 0l, unit;
-		String num2raw;
+		long multiplicand, multiplier;
 		
+		// the bits of multiplier are iterated, so it is better to have less of them
 		if (number1.onesEnum() < number2.onesEnum()) {
-			unit = number2.getLongRaw();
-			num2raw = number1.getBinaryRaw();
+			multiplicand = number2.getLongRaw();
+			multiplier = number1.getLongRaw();
 		} else {
-			unit = number1.getLongRaw();
-			num2raw = number2.getBinaryRaw();
+			multiplicand = number1.getLongRaw();
+			multiplier = number2.getLongRaw();
 		}
-        
-        int biasproduct = 0; 
-        int leadzeros = Long.numberOfLeadingZeros(unit);
-         
-        int i = num2raw.length() + 0xffffffff;
-        for (int shift = 0, check, spaceneed; i > 0xffffffff; i+= 0xffffffff) {
-            if (num2raw.charAt(i) == '1') {
-                check = leadzeros + ~shift;
-                if (check > 0xffffffff) {
-                    unit <<= shift;
-                    leadzeros += ~shift +1;
-                } else {
-                    if (leadzeros == 0) {
-						unit >>>= 1; 
-                        unit++;
-						biasproduct++;
-					} else {
-                        unit <<= leadzeros + 0xffffffff;
-                        spaceneed = -check;
-                        if (((product >>> (spaceneed + 0xffffffff)) & 0x01) == 1) {
-                            product >>>= spaceneed;
-                            product++;
-                        } else {
-                            product >>>= spaceneed;
-                        }
-                        biasproduct += spaceneed;
-                    }
-
-                    product += unit;
-                    i += 0xffffffff;
-                    break;
-                }
-                product += unit;
-                shift = 1;
-            } else {
-                shift++;
-            }
-        }
-        
-        for (int shift = 1; i > 0xffffffff; i+= 0xffffffff) {
-            if (num2raw.charAt(i) == '1') {
-                if (((product >>> (shift + 0xffffffff)) & 0x01) == 1) {
-                    product >>>= shift;
-                    product++;
-                } else {
-                    product >>>= shift;
-                }
-                biasproduct += shift;
-
-                product += unit;
-                shift = 1;
-            } else {
-                shift++;
-            }
-        }
-        
-		String raw = Long.toBinaryString(product);
-
-		int productexp = getMultExponent(raw, number1.getExp(), number2.getExp(), number1.getBinaryRaw(), number2.getBinaryRaw(), biasproduct);
-
-		return new SlicedDouble(raw, productexp, negativesign);
+		
+		long[] product = new long[2];
+		multLongRaw(multiplicand, multiplier, product);
+		
+		// exponent of the lowest bit of product
+		int lowexp = number1.getExponent() + number2.getExponent() + 
+			~number1.getRawLength() + ~number2.getRawLength() + 4;
+		
+		return getRoundedProduct(product[0], product[1], lowexp, !negativesign.isEmpty());
 	}
 	
 	/**
-	 * Auxiliary method to get multiplication result exponent
+	 * Auxiliary method that computes the full 128-bit product of two
+	 * unsigned long numbers by shifting and adding of multiplicand for each
+	 * '1' in multiplier. The high part of product is placing to product[0]
+	 * and the low part to product[1].
 	 */
-	private static int getMultExponent(String raw, int exp1, int exp2, String num1raw, String num2raw, int biasproduct) {
-		int fractdigitsnum = num1raw.length() + num2raw.length() + 0xfffffffe;
-
-		return raw.length() + ~fractdigitsnum + exp1 + exp2 + biasproduct;
+	private static void multLongRaw(long multiplicand, long multiplier, long[] product) {
+		long high = 0l, low = 0l, addend;
+		
+		for (int shift; multiplier != 0; multiplier &= multiplier + 0xffffffffffffffffl) {
+			shift = Long.numberOfTrailingZeros(multiplier);
+			
+			addend = multiplicand << shift;
+			if (shift > 0) high += multiplicand >>> (64 + ~shift + 1);
+			
+			high += getCarry(low, addend, low + addend);
+			low += addend;
+		}
+		
+		product[0] = high;
+		product[1] = low;
 	}
 	
 	/**
-	 * Returns the number after raising it to the fractional part of
-	 * the specified power.
+	 * Returns 1 if the sum of two unsigned long numbers has overflowed
+	 * and 0 if not.
+	 */
+	private static long getCarry(long addend1, long addend2, long sum) {
+		return ((addend1 & addend2) | ((addend1 | addend2) & ~sum)) >>> 63;
+	}
+	
+	/**
+	 * Auxiliary method that rounds the 128-bit product to the 64 bits
+	 * of mantissa and makes the {@code SlicedDouble} from it.
 	 *
-	 * <p>It can be used in a sheaf with {@code intPower()} and {@code innerMult()}
-	 * methods to produce the same result as with using {@code pow()} method,
-	 * but without limitation of {@code double} type except those that is
-	 * too do not extract roots from negative numbers. The only limit that can happen
-	 * is an overflow of {@code integer} that holds an exponent if your
-	 * value will be too small or too large. But you can simply handle it by
-	 * checking inputs and outputs if such scenario may take a place.
+	 * <p>The product is rounded to odd, as in {@code addAligned()}.
 	 *
-	 * <p>For example:<br>
+	 * <p>The lowexp is an exponent of the lowest bit of product.
+	 */
+	private static SlicedDouble getRoundedProduct(long high, long low, int lowexp, boolean negative) {
+		if (high == 0) {
+			if (low == 0) return new SlicedDouble(0l, 0, negative);
+			
+			return new SlicedDouble(low, lowexp + ~Long.numberOfLeadingZeros(low) + 64, negative);
+		}
+		
+		int leadzeros = Long.numberOfLeadingZeros(high);
+		int productexp = lowexp + ~leadzeros + 128;
+		long raw;
+		
+		if (leadzeros == 0) raw = high;
+		else raw = (high << leadzeros) | (low >>> (64 + ~leadzeros + 1));
+		
+		// the lowest digit of inexact product is turned to '1'
+		if ((low << leadzeros) != 0) raw |= 1l;
+		
+		return new SlicedDouble(raw, productexp, negative);
+	}
+	
+	/**
+	 * Return {@code SlicedDouble} object that holds the square of
+	 * value that input holds.
 	 *
-	 * {@code SlicedDouble number = new SlicedDouble(3432543.23423);}<br>
-	 * {@code SlicedDouble power = new SlicedDouble(-33.23423);}<br><br>
+	 * <p>It gives the same result as {@code innerMult(number, number, "")},
+	 * but the mantissa is splitted in two halves, so the cross product
+	 * of them is computed only once and then is doubled by shift.
 	 *
-	 * {@code SlicedDouble intpowresult, fractpowresult, multresult, divresult;}<br><br>
+	 * @param number the number
+	 *
+	 * @return the SlicedDouble that holds in value {@code number*number}
+	 */
+	public static SlicedDouble innerSquare(SlicedDouble number) {
+		
+		// this is a check of getting Double.NaN after intermidiate operations
+		// with pure SlicedDouble.
+		if (number.isNaN())
+			return number;
+		else if (number.isInfinite())
+			return SlicedDouble.valueOf(Double.POSITIVE_INFINITY);
+		
+		long raw = number.getLongRaw();
+		long rawhigh = raw >>> 32, rawlow = raw & 0x00000000ffffffffl;
+		
+		// (h*2^32 + l)^2 = h^2*2^64 + 2*h*l*2^32 + l^2
+		long cross = multHalves(rawhigh, rawlow);
+		long lowsquare = multHalves(rawlow, rawlow);
+		long high = multHalves(rawhigh, rawhigh) + (cross >>> 31), low = cross << 33;
+		
+		high += getCarry(low, lowsquare, low + lowsquare);
+		low += lowsquare;
+		
+		int lowexp = number.getExponent() + number.getExponent() + 
+			~number.getRawLength() + ~number.getRawLength() + 4;
+		
+		return getRoundedProduct(high, low, lowexp, false);
+	}
+	
+	/**
+	 * Auxiliary method that returns the product of two 32-bit numbers, it is
+	 * fitting to the one long, so there is no need to watch for a carry.
+	 */
+	private static long multHalves(long multiplicand, long multiplier) {
+		long product = 0l;
+		
+		for (; multiplier != 0; multiplier &= multiplier + 0xffffffffffffffffl) {
+			product += multiplicand << Long.numberOfTrailingZeros(multiplier);
+		}
+		
+		return product;
+	}
+	
+	/**
+	 * Returns the multiplier by the giving constant. The mantissa of constant
+	 * is recoded only once to the canonical signed digits, so each next
+	 * multiplication needs the minimal number of shifts and additions
+	 * (or substractions). The results are the same as of {@code mult()} method.
+	 *
+	 * @param   number(c)  the constant.
+	 * @return  the multiplier by {@code c}.
+	 */
+	public static Multiplier multiplierFor(double number) {
+		return new Multiplier(SlicedDouble.valueOf(number));
+	}
+	
+	/**
+	 * Returns the multiplier by the giving constant. The mantissa of constant
+	 * is recoded only once to the canonical signed digits, so each next
+	 * multiplication needs the minimal number of shifts and additions
+	 * (or substractions). The results are the same as of {@code mult()} method.
+	 *
+	 * @param   number(c)  the constant.
+	 * @return  the multiplier by {@code c}.
+	 */
+	public static Multiplier multiplierFor(SlicedDouble number) {
+		return new Multiplier(number);
+	}
+	
+	/**
+	 * The multiplier by the fixed constant.
+	 *
+	 * <p>The mantissa of constant is held in canonical signed digits form,
+	 * where each digit is 1, -1 or 0 and there are no two non-zero digits
+	 * in a row. So for example the mantissa 111011 is turning to
+	 * 1000-10-1 and instead of five additions there are only three
+	 * operations. The digit -1 is turning to the addition of complement
+	 * of shifted multiplicand.
+	 */
+	public static class Multiplier {
+		
+		/**
+		 * The constant
+		 */
+		private final SlicedDouble constant;
+		
+		/**
+		 * The non-zero digits of recoded constant
+		 */
+		private final int[] digits;
+		
+		private Multiplier(SlicedDouble constant) {
+			this.constant = constant;
+			
+			digits = getSignedDigits(this.constant.getLongRaw());
+		}
+		
+		/**
+		 * Returns the number of non-zero digits of recoded constant,
+		 * that is the number of additions for each multiplication.
+		 *
+		 * @return  the number of non-zero digits.
+		 */
+		public int getDigitsNum() {
+			return digits.length;
+		}
+		
+		/**
+		 * Returns the value of number multiplied by the constant.
+		 *
+		 * @param   number(n)  the number.
+		 * @return  the value {@code n*c}.
+		 */
+		public Double apply(double number) {
+			return apply(SlicedDouble.valueOf(number)).getIEEE754();
+		}
+		
+		/**
+		 * Puts to the results the values of numbers multiplied by the constant.
+		 *
+		 * @param   numbers  the numbers.
+		 * @param   results  the array for the values {@code n*c} that must
+		 *					 be not shorter than numbers.
+		 */
+		public void apply(double[] numbers, double[] results) {
+			for (int i = 0; i < numbers.length; i++) {
+				results[i] = apply(numbers[i]);
+			}
+		}
+		
+		/**
+		 * Returns the value of number multiplied by the constant.
+		 *
+		 * @param   number(n)  the number.
+		 * @return  the value {@code n*c}.
+		 */
+		public SlicedDouble apply(SlicedDouble number) {
+			return mult(number, constant, this);
+		}
+		
+		/**
+		 * Auxiliary method that is doing the same as {@code innerMult()}
+		 * with the recoded constant.
+		 */
+		private SlicedDouble multiply(SlicedDouble number, String negativesign) {
+			if (number.isNaN()) return number;
+			
+			long[] product = new long[2];
+			multSignedDigits(number.getLongRaw(), digits, product);
+			
+			// exponent of the lowest bit of product
+			int lowexp = number.getExponent() + constant.getExponent() + 
+				~number.getRawLength() + ~constant.getRawLength() + 4;
+			
+			return getRoundedProduct(product[0], product[1], lowexp, !negativesign.isEmpty());
+		}
+	}
+	
+	/**
+	 * Auxiliary method that recodes the unsigned long number to the canonical
+	 * signed digits. Each non-zero digit is returned as its position if it
+	 * is 1 and as complement of its position if it is -1, from the lowest
+	 * to the highest.
+	 */
+	private static int[] getSignedDigits(long raw) {
+		int[] digits = new int[65];
+		int digitsnum = 0;
+		
+		// the carry is the 65th bit of the rest of number
+		boolean carry = false;
+		
+		for (int i = 0; raw != 0 || carry; i++) {
+			if ((raw & 1l) == 1l) {
+				
+				// '11' at the end is turning to '-1' with carry to the next digits
+				if ((raw & 2l) == 0) {
+					digits[digitsnum] = i;
+					raw &= 0xfffffffffffffffel;
+				} else {
+					digits[digitsnum] = ~i;
+					raw++;
+					if (raw == 0) carry = true;
+				}
+				
+				digitsnum++;
+			}
+			
+			raw >>>= 1;
+			if (carry) {
+				raw |= 0x8000000000000000l;
+				carry = false;
+			}
+		}
+		
+		int[] result = new int[digitsnum];
+		for (int i = 0; i < digitsnum; i++) result[i] = digits[i];
+		
+		return result;
+	}
+	
+	/**
+	 * Auxiliary method that computes the full 128-bit product of unsigned
+	 * long multiplicand and the number that was recoded to the canonical
+	 * signed digits. The high part of product is placing to product[0]
+	 * and the low part to product[1].
+	 */
+	private static void multSignedDigits(long multiplicand, int[] digits, long[] product) {
+		long high = 0l, low = 0l, addendhigh, addend;
+		
+		for (int i = 0, shift; i < digits.length; i++) {
+			shift = digits[i];
+			if (shift < 0) shift = ~shift;
+			
+			if (shift == 64) {
+				addendhigh = multiplicand;
+				addend = 0l;
+			} else if (shift > 0) {
+				addendhigh = multiplicand >>> (64 + ~shift + 1);
+				addend = multiplicand << shift;
+			} else {
+				addendhigh = 0l;
+				addend = multiplicand;
+			}
+			
+			// the complement of 128-bit addend
+			if (digits[i] < 0) {
+				addendhigh = ~addendhigh;
+				addend = ~addend + 1;
+				if (addend == 0) addendhigh++;
+			}
+			
+			// intermediate sums can be negative, but the final is not
+			high += addendhigh + getCarry(low, addend, low + addend);
+			low += addend;
+		}
+		
+		product[0] = high;
+		product[1] = low;
+	}
+	
+	/**
+	 * Returns the value of {@code number1*number2 + addend} that is rounded
+	 * to {@code double} only once. The result is the same as of
+	 * {@code java.lang.Math.fma()}, including the special cases.
+	 *
+	 * @param number1	the first multiplyer
+	 * @param number2	the second multiplyer
+	 * @param addend	the addend
+	 *
+	 * @return {@code number1*number2 + addend}
+	 */
+	public static Double fma(double number1, double number2, double addend) {
+		return Primitive.fma(number1, number2, addend);
+	}
+	
+	/**
+	 * Returns the {@code SlicedDouble} that holds value of
+	 * {@code number1*number2 + addend}. The full 128-bit product of mantissas
+	 * is added to addend and then the result is rounded to the 64 bits only once.
+	 *
+	 * <p>This method works directly with {@code SlicedDouble} type of inputs
+	 * and does not compute their {@code double} values, so the result is not
+	 * limited to {@code double} range. Note that the rounding of result to
+	 * {@code double} is the second rounding, so if you need the same result
+	 * as of {@code java.lang.Math.fma()}, you should use
+	 * {@code fma(double, double, double)}.
+	 *
+	 * @param number1	the first multiplyer
+	 * @param number2	the second multiplyer
+	 * @param addend	the addend
+	 *
+	 * @return the SlicedDouble that holds in value {@code number1*number2 + addend}
+	 */
+	public static SlicedDouble fma(SlicedDouble number1, SlicedDouble number2, SlicedDouble addend) {
+		if (number1.isNaN()) return number1;
+		else if (number2.isNaN()) return number2;
+		else if (addend.isNaN()) return addend;
+		
+		SlicedDouble check = fmaPreCheck(number1, number2, addend);
+		if (check != null) return check;
+		
+		long[] registers = new long[5];
+		fmaRegisters(number1, number2, addend, registers);
+		
+		return getRoundedProduct(registers[0], registers[1], (int)registers[2] + 0xffffff81, registers[4] == 1l);
+	}
+	
+	/**
+	 * Returns the polynomial with the giving coefficients, from the constant
+	 * term to the coefficient of the highest power. The coefficients are sliced
+	 * only once, and the polynomial is evaluated by Horner's scheme with
+	 * {@code fma()} on {@code SlicedDouble} values, so the value of each step
+	 * is rounded to 64 bits and only the final value is rounded to {@code double}.
+	 *
+	 * @param coefficients	the coefficients c0, c1 ... cn of c0 + c1*x + ... + cn*x^n
+	 * @return the polynomial
+	 */
+	public static Polynomial polynomial(double... coefficients) {
+		SlicedDouble[] slicedcoefficients = new SlicedDouble[coefficients.length];
+		
+		for (int i = 0; i < coefficients.length; i++) {
+			slicedcoefficients[i] = SlicedDouble.valueOf(coefficients[i]);
+		}
+		
+		return new Polynomial(slicedcoefficients);
+	}
+	
+	/**
+	 * Returns the polynomial with the giving coefficients, from the constant
+	 * term to the coefficient of the highest power. The polynomial is evaluated
+	 * by Horner's scheme with {@code fma()} on {@code SlicedDouble} values, so
+	 * the value of each step is rounded to 64 bits.
+	 *
+	 * @param coefficients	the coefficients c0, c1 ... cn of c0 + c1*x + ... + cn*x^n
+	 * @return the polynomial
+	 */
+	public static Polynomial polynomial(SlicedDouble... coefficients) {
+		return new Polynomial(coefficients.clone());
+	}
+	
+	/**
+	 * The polynomial with the fixed coefficients.
+	 *
+	 * <p>The value {@code c0 + c1*x + ... + cn*x^n} is evaluated as
+	 * {@code c0 + x*(c1 + x*(... + x*cn))}, where each step is the one
+	 * {@code fma()}. The intermediate values are not limited to {@code double}
+	 * range.
+	 */
+	public static class Polynomial {
+		
+		/**
+		 * The coefficients from the constant term
+		 */
+		private final SlicedDouble[] coefficients;
+		
+		private Polynomial(SlicedDouble[] coefficients) {
+			this.coefficients = coefficients;
+		}
+		
+		/**
+		 * Returns the degree of polynomial, that is the number of
+		 * coefficients without one.
+		 *
+		 * @return the degree of polynomial
+		 */
+		public int getDegree() {
+			return coefficients.length + 0xffffffff;
+		}
+		
+		/**
+		 * Returns the value of polynomial at the giving point.
+		 *
+		 * @param x	the point
+		 * @return the value of polynomial
+		 */
+		public Double evaluate(double x) {
+			return evaluate(SlicedDouble.valueOf(x)).getIEEE754();
+		}
+		
+		/**
+		 * Puts to the results the values of polynomial at the giving points.
+		 *
+		 * @param x			the points
+		 * @param results	the array for the values that must be
+		 *					not shorter than points
+		 */
+		public void evaluate(double[] x, double[] results) {
+			for (int i = 0; i < x.length; i++) {
+				results[i] = evaluate(x[i]);
+			}
+		}
+		
+		/**
+		 * Returns the value of polynomial at the giving point.
+		 *
+		 * @param x	the point
+		 * @return the value of polynomial
+		 */
+		public SlicedDouble evaluate(SlicedDouble x) {
+			if (coefficients.length == 0) return SlicedDouble.valueOf(0.0);
+			
+			SlicedDouble result = coefficients[coefficients.length + 0xffffffff];
+			
+			for (int i = coefficients.length + 0xfffffffe; i > 0xffffffff; i += 0xffffffff) {
+				result = fma(result, x, coefficients[i]);
+			}
+			
+			return result;
+		}
+	}
+	
+	/**
+	 * Auxiliary method that returns the result of {@code fma()} for special
+	 * cases of inputs that are not NaN: infinities and zero product.
+	 * Otherwise it returns null.
+	 */
+	private static SlicedDouble fmaPreCheck(SlicedDouble number1, SlicedDouble number2, SlicedDouble addend) {
+		boolean negative = number1.isNegative() ^ number2.isNegative();
+		
+		if (number1.isInfinite() || number2.isInfinite()) {
+			if (number1.isZero() || number2.isZero()) return SlicedDouble.valueOf(Double.NaN);
+			else if (addend.isInfinite() && addend.isNegative() != negative) return SlicedDouble.valueOf(Double.NaN);
+			else if (negative) return SlicedDouble.valueOf(Double.NEGATIVE_INFINITY);
+			else return SlicedDouble.valueOf(Double.POSITIVE_INFINITY);
+		} else if (addend.isInfinite()) {
+			return addend;
+		} else if (number1.isZero() || number2.isZero()) {
+			// the sum of zeros is negative only if both of them are negative
+			if (!addend.isZero()) return addend;
+			else if (negative && addend.isNegative()) return SlicedDouble.valueOf(-0.0);
+			else return SlicedDouble.valueOf(0.0);
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Auxiliary method that computes {@code number1*number2 + addend} for
+	 * finite numbers, where the product is not zero, without rounding.
+	 *
+	 * <p>The registers are: the high and the low parts of left aligned
+	 * mantissa of result, the exponent of its highest digit, the sticky tag,
+	 * that is 1 if there are some more digits below the low part, and the sign.
+	 * If the result is zero, mantissa is zero too.
+	 *
+	 * <p>The addition is the same as in {@code addAligned()}, but with the
+	 * 128-bit mantissas. The shifted out digits of less number are only
+	 * turning to the sticky tag, because when the difference of exponents
+	 * is more than one, the leading digits of result can not vanish more
+	 * than by one.
+	 */
+	private static void fmaRegisters(SlicedDouble number1, SlicedDouble number2, SlicedDouble addend,
+		long[] registers) {
+		long[] product = new long[2];
+		multLongRaw(number1.getLongRaw(), number2.getLongRaw(), product);
+		
+		// exponent of the lowest bit of product, as in innerMult()
+		int lowexp = number1.getExponent() + number2.getExponent() + 
+			~number1.getRawLength() + ~number2.getRawLength() + 4;
+		
+		// left aligning of product
+		long high1 = product[0], low1 = product[1];
+		int leadzeros;
+		
+		if (high1 == 0) {
+			leadzeros = Long.numberOfLeadingZeros(low1);
+			high1 = low1 << leadzeros;
+			low1 = 0l;
+			leadzeros += 64;
+		} else {
+			leadzeros = Long.numberOfLeadingZeros(high1);
+			if (leadzeros > 0) {
+				high1 = (high1 << leadzeros) | (low1 >>> (64 + ~leadzeros + 1));
+				low1 <<= leadzeros;
+			}
+		}
+		
+		int exp1 = lowexp + ~leadzeros + 128;
+		boolean negative = number1.isNegative() ^ number2.isNegative();
+		
+		if (addend.isZero()) {
+			registers[0] = high1;
+			registers[1] = low1;
+			registers[2] = exp1;
+			registers[3] = 0l;
+			if (negative) registers[4] = 1l;
+			else registers[4] = 0l;
+			return;
+		}
+		
+		long high2 = addend.getLongRaw() << (64 + ~addend.getRawLength() + 1), low2 = 0l;
+		int exp2 = addend.getExponent();
+		boolean substraction = negative != addend.isNegative();
+		
+		// the first number must have the greater absolute value
+		if (exp2 > exp1 || (exp2 == exp1 && 
+			!isNotLess(high1 ^ 0x8000000000000000l, low1, high2 ^ 0x8000000000000000l, low2))) {
+			long raw = high1; high1 = high2; high2 = raw;
+			raw = low1; low1 = low2; low2 = raw;
+			int exp = exp1; exp1 = exp2; exp2 = exp;
+			negative = addend.isNegative();
+		}
+		
+		// aligning of the second number
+		int shift = exp1 + ~exp2 + 1;
+		boolean sticky = false;
+		
+		if (shift >= 128) {
+			high2 = 0l;
+			low2 = 0l;
+			sticky = true;
+		} else if (shift >= 64) {
+			sticky = low2 != 0 || (shift > 64 && (high2 << (128 + ~shift + 1)) != 0);
+			if (shift == 64) low2 = high2;
+			else low2 = high2 >>> (shift + 0xffffffc0);
+			high2 = 0l;
+		} else if (shift > 0) {
+			sticky = (low2 << (64 + ~shift + 1)) != 0;
+			low2 = (high2 << (64 + ~shift + 1)) | (low2 >>> shift);
+			high2 >>>= shift;
+		}
+		
+		long resulthigh, resultlow;
+		
+		if (!substraction) {
+			resultlow = low1 + low2;
+			long carry = getCarry(low1, low2, resultlow);
+			resulthigh = high1 + high2 + carry;
+			
+			// the carry out of high part is turning to the new leading '1'
+			if (getCarry(high1, high2, high1 + high2) == 1l || 
+				(carry == 1l && high1 + high2 == 0xffffffffffffffffl)) {
+				sticky |= (resultlow & 1l) == 1l;
+				resultlow = (resulthigh << 63) | (resultlow >>> 1);
+				resulthigh = (resulthigh >>> 1) | 0x8000000000000000l;
+				exp1++;
+			}
+		} else {
+			// the adding of complement of second number
+			resultlow = low1 + ~low2 + 1;
+			resulthigh = high1 + ~high2;
+			if (low2 == 0) resulthigh++;
+			else resulthigh += getCarry(low1, ~low2 + 1, resultlow);
+			
+			// the sticky tag is taking one more from the lowest digit
+			if (sticky) {
+				if (resultlow == 0) resulthigh += 0xffffffffffffffffl;
+				resultlow += 0xffffffffffffffffl;
+			}
+			
+			if (resulthigh == 0 && resultlow == 0) {
+				registers[0] = 0l;
+				registers[1] = 0l;
+				registers[2] = 0l;
+				registers[3] = 0l;
+				registers[4] = 0l;
+				return;
+			}
+			
+			if (resulthigh == 0) {
+				resulthigh = resultlow;
+				resultlow = 0l;
+				exp1 += 0xffffffc0;
+			}
+			
+			leadzeros = Long.numberOfLeadingZeros(resulthigh);
+			if (leadzeros > 0) {
+				resulthigh = (resulthigh << leadzeros) | (resultlow >>> (64 + ~leadzeros + 1));
+				resultlow <<= leadzeros;
+				exp1 += ~leadzeros + 1;
+			}
+		}
+		
+		registers[0] = resulthigh;
+		registers[1] = resultlow;
+		registers[2] = exp1;
+		if (sticky) registers[3] = 1l;
+		else registers[3] = 0l;
+		if (negative) registers[4] = 1l;
+		else registers[4] = 0l;
+	}
+	
+	/**
+	 * Auxiliary method that rounds the result of {@code fmaRegisters()} to
+	 * the nearest {@code double}, and to the even one if it is exactly in
+	 * the middle, as {@code java.lang.Math} is doing it. The denormal numbers
+	 * are keeping less digits.
+	 */
+	private static double getRoundedDouble(long[] registers) {
+		long high = registers[0], low = registers[1];
+		int exp = (int)registers[2];
+		boolean sticky = registers[3] == 1l;
+		
+		if (high == 0) return 0.0;
+		else if (exp > 1023) {
+			if (registers[4] == 1l) return Double.NEGATIVE_INFINITY;
+			else return Double.POSITIVE_INFINITY;
+		}
+		
+		// the number of digits that are dropped, normal numbers keep 53 digits
+		int shift = 75;
+		if (exp < 0xfffffc02) shift = 0xfffffc4d + ~exp + 1;
+		
+		long mantissa;
+		boolean guard;
+		
+		if (shift >= 129) {
+			mantissa = 0l;
+			guard = false;
+			sticky = true;
+		} else if (shift == 128) {
+			mantissa = 0l;
+			guard = high < 0;
+			sticky |= (high << 1) != 0 || low != 0;
+		} else {
+			mantissa = high >>> (shift + 0xffffffc0);
+			guard = ((high >>> (shift + 0xffffffbf)) & 1l) == 1l;
+			sticky |= (high << (129 + ~shift + 1)) != 0 || low != 0;
+		}
+		
+		if (guard && (sticky || (mantissa & 1l) == 1l)) mantissa++;
+		
+		// the hidden '1' of normal number is adding to the exponent field, so
+		// it also handles the carry of rounding and the denormal numbers
+		long bits;
+		if (shift == 75) bits = ((long)(exp + 1022) << 52) + mantissa;
+		else bits = mantissa;
+		
+		if (bits >= 0x7ff0000000000000l) bits = 0x7ff0000000000000l;
+		if (registers[4] == 1l) bits |= 0x8000000000000000l;
+		
+		return Double.longBitsToDouble(bits);
+	}
+	
+	/**
+	 * Returns the number after raising it to the fractional part of
+	 * the specified power.
+	 *
+	 * <p>It can be used in a sheaf with {@code intPower()} and {@code innerMult()}
+	 * methods to produce the same result as with using {@code pow()} method,
+	 * but without limitation of {@code double} type except those that is
+	 * too do not extract roots from negative numbers. The only limit that can happen
+	 * is an overflow of {@code integer} that holds an exponent if your
+	 * value will be too small or too large. But you can simply handle it by
+	 * checking inputs and outputs if such scenario may take a place.
+	 *
+	 * <p>For example:<br>
+	 *
+	 * {@code SlicedDouble number = new SlicedDouble(3432543.23423);}<br>
+	 * {@code SlicedDouble power = new SlicedDouble(-33.23423);}<br><br>
+	 *
+	 * {@code SlicedDouble intpowresult, fractpowresult, multresult, divresult;}<br><br>
 	 *
 	 * {@code intpowresult = MiniMath.intPowerNoLimits(number, power);}<br>
 	 * {@code fractpowresult = MiniMath.fractPower(number, power);}<br>
@@ -556,26 +1710,33 @@ public class MiniMath {
      * @return  the value {@code n}<sup>{@code p}</sup>.
 	 */
 	public static SlicedDouble fractPower(SlicedDouble number, SlicedDouble power) {
-		if (!number.getNegativeSign().isEmpty()) return new SlicedDouble(Double.NaN);
-		else if (number.getDouble() != null && Double.isNaN(number.getDouble()))
+		if (number.isNegative()) return SlicedDouble.valueOf(Double.NaN);
+		else if (number.isNaN())
 			return number;
-		else if (power.getDouble() != null && Double.isNaN(power.getDouble()))
+		else if (power.isNaN())
 			return power;
 
-		String powerraw = power.getFractRaw();
-		int powerexp = power.getExp();
-		SlicedDouble result = new SlicedDouble(1.0);
+		return getFractPower(number, power.getLongFractRaw(), power.getExponent(), power.getFractLength());
+	}
+	
+	/**
+	 * Auxiliary method that raises the number to the fractional part of power,
+	 * that was already decoded to the powerraw digits and their number fractlen,
+	 * and the powerexp exponent.
+	 */
+	private static SlicedDouble getFractPower(SlicedDouble number, long powerraw, int powerexp, int fractlen) {
+		SlicedDouble result = SlicedDouble.valueOf(1.0);
 		
 		for (int i = 0xffffffff; i > powerexp; i--) {
 			number = innerRoot(number);
 			if (getFractPowerResult(number)) return result;
 		}
 		
-		for (int i = 0; i < powerraw.length(); i++) {
+		for (int i = fractlen + 0xffffffff; i > 0xffffffff; i += 0xffffffff) {
 			number = innerRoot(number);
 			if (getFractPowerResult(number)) return result;
 			
-			if (powerraw.charAt(i) == '1') {
+			if (((powerraw >>> i) & 1l) == 1l) {
 				result = innerMult(number, result, "");
 				if (getFractPowerResult(number)) return result;
 			}
@@ -587,11 +1748,16 @@ public class MiniMath {
 	// here we use boolean type of returning value instead of SlicedDouble like it was
 	// in getIntPowerResult(), because of optimization of required computations
 	/**
-	 * Auxiliary method to check if number is collapsed to '1'
+	 * Auxiliary method to check if number is collapsed to '1'. The roots are
+	 * rounded to odd, so the chain of roots of number next to '1' is ending
+	 * not only with '1' itself, but with 1+2^-63 or 1-2^-64, that are the
+	 * roots of themselves, and they are collapsed too.
 	 */
 	private static boolean getFractPowerResult(SlicedDouble number) {
-		if (number.getExp() == 0) {
-			if (number.getBinaryRaw().equals("1")) return true;
+		if (number.getExponent() == 0) {
+			if (number.getLongRaw() == 1l || number.getLongRaw() == 0x8000000000000001l) return true;
+		} else if (number.getExponent() == 0xffffffff) {
+			if (number.getLongRaw() == 0xffffffffffffffffl) return true;
 		}
 		
 		return false;
@@ -602,8 +1768,9 @@ public class MiniMath {
 	 *
 	 * It's named so and not {@code sqrt} for example as similar method
 	 * in {@code Math} class because it works little different
-	 * in part that it do not rounding final result, and for that to
-	 * meet names of other similar methods in current class.
+	 * in part that it do not rounding final result to {@code double}, and for
+	 * that to meet names of other similar methods in current class. The 64
+	 * digits of root are rounded to odd: the last digit is '1' if it is not exact.
 	 *
 	 * @param number the value
 	 * @return the positive square root of {@code number}.
@@ -615,138 +1782,87 @@ public class MiniMath {
 		// after intermidiate operations with pure SlicedDouble.
 		// When using one-time instructions that do not include chains
 		// this check is not take any valuable part.
-		if (!number.getNegativeSign().isEmpty() || 
-			(number.getDouble() != null && Double.isNaN(number.getDouble()))) 
-			return new SlicedDouble(Double.NaN);
-		
-		String numraw = number.getBinaryRaw(), residualstr;
-		long minuend = 0l, subtrahend, residual;
-		if (!number.isOddIntDigitsOrLeadZerosNum()) {
-			if (number.getIntRaw().length() > 0 || 
-				(number.getIntRaw().length() == 0 && number.getFractRaw().length() > 1)) {
-				if (numraw.substring(0, 2).equals("10")) {
-					numraw = "01" + numraw.substring(2);
-				} else {
-					numraw = "10" + numraw.substring(2);
-				}
-			} else if (number.getFractRaw().length() == 1) {
-				numraw = "01";
-			} else {
-				return new SlicedDouble("", 0, "");
-			}
-		} else {
-			numraw = "00" + numraw.substring(1);
-		}
+		if (number.isNegative() || number.isNaN()) 
+			return SlicedDouble.valueOf(Double.NaN);
 		
-		Long result = 1l;
-		String subzeros = "";
+		if (number.isZero()) return new SlicedDouble(0l, 0, "");
+		else if (number.isInfinite()) return number;
 		
-		for (int i = numraw.length(); i < 127; i++) {
-			numraw += "0";
+		// the radicand is left aligned in two registers and its digits are grouped
+		// in pairs beginning from the units, so if the number of integer digits
+		// or leading zeros of fraction is odd, the first pair gets the leading zero
+		long raw = number.getLongRaw();
+		long radicandhigh = raw << Long.numberOfLeadingZeros(raw), radicandlow = 0l;
+		
+		if (number.isOddIntDigitsOrLeadZerosNum()) {
+			radicandlow = radicandhigh << 63;
+			radicandhigh >>>= 1;
 		}
-
-		for (int left = 0, right = 4; left < 60; left++, right += 2) {
+		
+		// the first digit of result is always '1'
+		long result = 1l, remainder = (radicandhigh >>> 62) + 0xffffffffffffffffl, residual;
+		radicandhigh = (radicandhigh << 2) | (radicandlow >>> 62);
+		radicandlow <<= 2;
+		
+		for (int i = 0; i < 60; i++) {
 			result <<= 1;
-
-			if (numraw.charAt(left) == '1' || numraw.charAt(left+1) == '1') {
-				
-				minuend = Long.parseLong(numraw.substring(left, right), 2);
-				subtrahend = result << 1;
-				residual = minuend + ~subtrahend;
-			
-				if (residual >= 0) {
-					
-					residualstr = Long.toBinaryString(residual);
-					subzeros = "";
-					for (int i = 0, len = right + ~residualstr.length() + 1; i < len; i++) {
-						subzeros += "0";
-					}
-					numraw = subzeros + residualstr + numraw.substring(right);
-					result++;
-				}
+			remainder = (remainder << 2) | (radicandhigh >>> 62);
+			radicandhigh = (radicandhigh << 2) | (radicandlow >>> 62);
+			radicandlow <<= 2;
+			
+			residual = remainder + ~(result << 1);
+			if (residual >= 0) {
+				remainder = residual;
+				result++;
 			}
 		}
 		
-		// next "if's" are made for additional precission
+		// all the digits of radicand are consumed here, so the root is exact
+		// only if nothing is left in the remainder
+		boolean inexact = remainder != 0;
+		
+		// next steps are made for additional precission, the radicand has no
+		// more digits here, and the remainder is not fitting to 63 bits anymore
 		result <<= 1;
-		if (numraw.charAt(60) == '1') {
-			minuend = Long.parseUnsignedLong(numraw.substring(60, 124), 2);
-			subtrahend = result << 1;
-			residual = minuend + ~subtrahend;
-			residualstr = Long.toBinaryString(residual);
-			subzeros = "";
-			for (int i = residualstr.length(); i < 124; i++) {
-				subzeros += "0";
-			}
-			numraw = subzeros + residualstr + numraw.substring(124);
+		remainder <<= 2;
+		residual = remainder + ~(result << 1);
+		if (remainder < 0 || residual >= 0) {
+			remainder = residual;
 			result++;
-		} else if (numraw.charAt(61) == '1') {
-			minuend = Long.parseLong(numraw.substring(60, 124), 2);
-			subtrahend = result << 1;
-			residual = minuend + ~subtrahend;
-			if (residual >= 0) {
-				residualstr = Long.toBinaryString(residual);
-				subzeros = "";
-				for (int i = residualstr.length(); i < 124; i++) {
-					subzeros += "0";
-				}
-				numraw = subzeros + residualstr + numraw.substring(124);
-				result++;
-			}
-		}	
+		}
 		
+		// the remainder of this step is only approximated when it is large,
+		// and the last step is deciding on the base of that approximation
 		result <<= 1;
-		if (numraw.charAt(60) == '1') {
-			minuend = Long.parseUnsignedLong(numraw.substring(60, 124), 2);
-			subtrahend = result >>> 1;
-			residual = minuend + ~subtrahend;
-			residualstr = Long.toBinaryString(residual);
-			subzeros = "";
-			for (int i = residualstr.length(); i < 124; i++) {
-				subzeros += "0";
-			}
-			numraw = subzeros + residualstr + numraw.substring(124);
-			result++;
-		} else if (numraw.charAt(61) == '1') {
-			minuend = Long.parseUnsignedLong(numraw.substring(61, 125), 2);
-			subtrahend = result;
-			residual = minuend + ~subtrahend;
-			residualstr = Long.toBinaryString(residual);
-			subzeros = "";
-			for (int i = residualstr.length(); i < 125; i++) {
-				subzeros += "0";
-			}
-			numraw = subzeros + residualstr + numraw.substring(125);
+		if (((remainder >>> 62) & 1l) == 1l) {
+			remainder = ((remainder << 1) + ~result) << 1;
 			result++;
-		} else if (numraw.charAt(62) == '1') {
-			minuend = Long.parseUnsignedLong(numraw.substring(62, 126), 2);
-			subtrahend = result << 1;
-			residual = minuend + ~subtrahend;
+		} else if (((remainder >>> 61) & 1l) == 1l) {
+			residual = (remainder << 2) + ~(result << 1);
 			if (residual >= 0) {
-				residualstr = Long.toBinaryString(residual);
-				subzeros = "";
-				for (int i = residualstr.length(); i < 126; i++) {
-					subzeros += "0";
-				}
-				numraw = subzeros + residualstr + numraw.substring(126);
+				remainder = residual;
 				result++;
+			} else {
+				remainder <<= 2;
 			}
-			residualstr = Long.toBinaryString(residual);
+		} else {
+			remainder <<= 2;
 		}
 		
 		result <<= 1;
-		if (numraw.charAt(60) == '1' || numraw.charAt(61) == '1' || numraw.charAt(62) == '1') {
+		if (remainder < 0) {
 			result++;
-		} else if (numraw.charAt(63) == '1') {
-			minuend = Long.parseUnsignedLong(numraw.substring(63, 127), 2);
-			subtrahend = result;
-			residual = minuend + ~subtrahend;
-			if (residual >= 0) {
-				result++;
-			}
+		} else if (((remainder >>> 62) & 1l) == 1l) {
+			residual = (remainder << 1) + ~result;
+			if (residual >= 0) result++;
 		}
-
-		int resultexp = getRootExponent(number.getExp());
+		
+		// the 64 digits are cut off, so the inexact root is rounded to odd,
+		// as the product and the sum are, and the cut value that looks like
+		// the half is not rounded to even
+		if (inexact) result |= 1l;
+		
+		int resultexp = getRootExponent(number.getExponent());
 		
 		return new SlicedDouble(result, resultexp, "");
 	}
@@ -773,8 +1889,27 @@ public class MiniMath {
 	 * @return quotient
 	 */
 	public static Double division(double dividend, double divisor) {
-		return division(new SlicedDouble(dividend), new SlicedDouble(divisor)).getIEEE754();
+		return Primitive.division(dividend, divisor);
+	}
+	
+	/**
+	 * Returns result of the divison that is computed with the chosen engine.
+	 *
+	 * <p>The enginesign parameter is the same as in
+	 * {@code innerDiv(dividend, divisor, negativesign, featuresign, enginesign)}.
+	 *
+	 * <p><b>Caution:</b>If the divisor is '0' there is no exception,
+	 * instead you will get an Infinity, positive or negative.
+	 *
+	 * @param dividend		the dividend number
+	 * @param divisor		the divisor number
+	 * @param enginesign	the engine sign
+	 * @return quotient
+	 */
+	public static Double division(double dividend, double divisor, int enginesign) {
+		return Primitive.division(dividend, divisor, enginesign);
 	}
+	
 	/**
 	 * Returns result of the divison
 	 *
@@ -793,21 +1928,267 @@ public class MiniMath {
 	 * @return quotient
 	 */
 	public static SlicedDouble division(SlicedDouble dividend, SlicedDouble divisor) {
+		return division(dividend, divisor, 0);
+	}
+	
+	/**
+	 * Returns result of the divison that is computed with the chosen engine.
+	 *
+	 * <p>The enginesign parameter is the same as in
+	 * {@code innerDiv(dividend, divisor, negativesign, featuresign, enginesign)}.
+	 *
+	 * <p><b>Caution:</b>If the divisor is '0' there is no exception,
+	 * instead you will get an Infinity, positive or negative.
+	 *
+	 * @param dividend		the dividend number
+	 * @param divisor		the divisor number
+	 * @param enginesign	the engine sign
+	 * @return quotient
+	 */
+	public static SlicedDouble division(SlicedDouble dividend, SlicedDouble divisor, int enginesign) {
+		return division(dividend, divisor, enginesign, null);
+	}
+	
+	/**
+	 * Auxiliary method that divides the numbers. If the prepared divisor
+	 * is supplied, the divisor must be its constant, and the quotient
+	 * is computed with the help of its reciprocal.
+	 */
+	private static SlicedDouble division(SlicedDouble dividend, SlicedDouble divisor, int enginesign,
+		Divisor preparedivisor) {
 		SlicedDouble check = divisionPreCheck(dividend, divisor);
 		if (check != null) return check;
 		
+		// the quotient by 1.0 or -1.0 is the dividend, but not the integer
+		// quotient of div() and floorDiv(), so it is not in divisionPreCheck()
+		double divisornum = divisor.getIEEE754();
+		if (divisornum == 1.0) return dividend;
+		else if (divisornum == -1.0) return SlicedDouble.valueOf(-dividend.getIEEE754());
+		
 		String negativesign = getPairSign(dividend, divisor);
 
-		SlicedDouble result = innerDiv(dividend, divisor, negativesign, 0);
+		SlicedDouble result;
+		
+		if (preparedivisor == null) result = innerDiv(dividend, divisor, negativesign, 0, enginesign);
+		else result = preparedivisor.divide(dividend, negativesign);
+		
 		result = checkExponentExtremum(result, 1024, -1075);
 		
 		if (result.getDouble() != null) {
-			if (negativesign.length() > 0) result.setSign("-");
+			if (negativesign.length() > 0) result = result.withSign("-");
 		}
 		
 		return result;
 	}
 	
+	/**
+	 * Auxiliary method that appends the sticky '1' to the end of 64 digits
+	 * of quotient if it is not exact, as {@code innerDiv()} does for its
+	 * quotients. The quotient digits are cut off, not rounded, so without
+	 * this digit the cut value that looks like the half would be rounded
+	 * to even instead of up. The quotient is exact only if
+	 * its mantissa multiplied by the mantissa of divisor gives the mantissa
+	 * of dividend, as all of them are odd.
+	 */
+	private static SlicedDouble getStickyQuotient(SlicedDouble quotient, SlicedDouble dividend,
+		SlicedDouble divisor) {
+		if (quotient.getDouble() != null || quotient.isZero()) return quotient;
+		
+		long[] product = new long[2];
+		multLongRaw(quotient.getLongRaw(), divisor.getLongRaw(), product);
+		
+		if (product[0] == 0 && product[1] == dividend.getLongRaw()) return quotient;
+		
+		return new SlicedDouble((quotient.getLongRaw() << (64 + ~quotient.getRawLength() + 1)) | 1l,
+			quotient.getExponent(), quotient.isNegative());
+	}
+	
+	/**
+	 * Returns the divisor by the giving constant. The reciprocal of
+	 * constant is computed only once, so each next division is turning
+	 * to the multiplication by it and the correction of the last digit.
+	 * The results are the same as of {@code division()} method.
+	 *
+	 * @param divisor	the divisor number
+	 * @return the divisor by {@code divisor}
+	 */
+	public static Divisor divisorFor(double divisor) {
+		return new Divisor(SlicedDouble.valueOf(divisor));
+	}
+	
+	/**
+	 * Returns the divisor by the giving constant. The reciprocal of
+	 * constant is computed only once, so each next division is turning
+	 * to the multiplication by it and the correction of the last digit.
+	 * The results are the same as of {@code division()} method.
+	 *
+	 * @param divisor	the divisor number
+	 * @return the divisor by {@code divisor}
+	 */
+	public static Divisor divisorFor(SlicedDouble divisor) {
+		return new Divisor(divisor);
+	}
+	
+	/**
+	 * The divisor by the fixed constant.
+	 *
+	 * <p>{@code innerDiv()} with '0' featuresign gives the 64 (or 63)
+	 * leading digits of quotient without rounding. If both of mantissas
+	 * are left aligned in long numbers M and D, that is {@code M*2^63/D}
+	 * rounded down. Here it is computed as the high part of product of M
+	 * and the reciprocal {@code 2^127/D} rounded down, which is either the
+	 * quotient or one less than it, so the only check is needed for the
+	 * last digit. Both the reciprocal and the D are recoded to the canonical
+	 * signed digits for cheaper multiplications.
+	 */
+	public static class Divisor {
+		
+		/**
+		 * The constant
+		 */
+		private final SlicedDouble constant;
+		
+		/**
+		 * The left aligned mantissa of constant
+		 */
+		private final long alignedraw;
+		
+		/**
+		 * The non-zero digits of reciprocal and of left aligned
+		 * mantissa of constant
+		 */
+		private final int[] reciprocaldigits, divisordigits;
+		
+		/**
+		 * The method of division: 0 - with the reciprocal, 1 - the constant
+		 * is a power of two, 2 - the constant is not suitable for the
+		 * reciprocal and {@code innerDiv()} is used
+		 */
+		private final int kind;
+		
+		private Divisor(SlicedDouble constant) {
+			this.constant = constant;
+			
+			long raw = this.constant.getLongRaw();
+			int rawlen = this.constant.getRawLength();
+			
+			// innerDiv() is rounding 64-bit mantissa to 63 bits
+			if (rawlen == 64) {
+				raw = (raw >>> 1) + (raw & 1l);
+				rawlen = 63;
+			}
+			
+			if (raw == 0 || raw < 0 || this.constant.isNaN() || this.constant.isInfinite()) {
+				kind = 2;
+				alignedraw = 0l;
+			} else {
+				alignedraw = raw << (64 + ~rawlen + 1);
+				
+				if (alignedraw == 0x8000000000000000l) kind = 1;
+				else kind = 0;
+			}
+			
+			if (kind == 0) {
+				reciprocaldigits = getSignedDigits(getReciprocal(alignedraw));
+				divisordigits = getSignedDigits(alignedraw);
+			} else {
+				reciprocaldigits = null;
+				divisordigits = null;
+			}
+		}
+		
+		/**
+		 * Returns the value of number divided by the constant.
+		 *
+		 * @param dividend	the dividend number
+		 * @return quotient
+		 */
+		public Double apply(double dividend) {
+			return apply(SlicedDouble.valueOf(dividend)).getIEEE754();
+		}
+		
+		/**
+		 * Puts to the results the values of numbers divided by the constant.
+		 *
+		 * @param dividends	the dividend numbers
+		 * @param results	the array for the quotients that must
+		 *					be not shorter than dividends
+		 */
+		public void apply(double[] dividends, double[] results) {
+			for (int i = 0; i < dividends.length; i++) {
+				results[i] = apply(dividends[i]);
+			}
+		}
+		
+		/**
+		 * Returns the value of number divided by the constant.
+		 *
+		 * @param dividend	the dividend number
+		 * @return quotient
+		 */
+		public SlicedDouble apply(SlicedDouble dividend) {
+			return division(dividend, constant, 0, this);
+		}
+		
+		/**
+		 * Auxiliary method that is doing the same as {@code innerDiv()}
+		 * with '0' featuresign with the help of reciprocal of constant.
+		 */
+		private SlicedDouble divide(SlicedDouble dividend, String negativesign) {
+			if (kind == 2 || dividend.isNaN() || dividend.isZero()) 
+				return innerDiv(dividend, constant, negativesign, 0);
+			
+			long quotient = dividend.getLongRaw() << (64 + ~dividend.getRawLength() + 1);
+			
+			if (kind == 0) {
+				long[] product = new long[2];
+				long dividendraw = quotient;
+				
+				multSignedDigits(dividendraw, reciprocaldigits, product);
+				quotient = product[0];
+				
+				// if (quotient + 1)*D is not greater than M*2^63, the quotient is one less
+				multSignedDigits(quotient, divisordigits, product);
+				product[0] += getCarry(product[1], alignedraw, product[1] + alignedraw);
+				product[1] += alignedraw;
+				
+				if (isNotLess((dividendraw >>> 1) ^ 0x8000000000000000l, dividendraw << 63,
+					product[0] ^ 0x8000000000000000l, product[1])) quotient++;
+			}
+			
+			// the quotient is 63 digits long if the first substraction in innerDiv() failed
+			int initialzero;
+			if (quotient < 0) initialzero = 0;
+			else initialzero = 1;
+			
+			return getStickyQuotient(new SlicedDouble(quotient, 
+				getDivisionExponent(dividend.getExponent(), constant.getExponent(), initialzero), negativesign),
+				dividend, constant);
+		}
+	}
+	
+	/**
+	 * Auxiliary method that returns {@code 2^127/divisor} rounded down
+	 * for the left aligned divisor that is not a power of two.
+	 */
+	private static long getReciprocal(long divisor) {
+		long remainder = 0x8000000000000000l, reciprocal = 0l;
+		boolean carry;
+		
+		for (int i = 0; i < 64; i++) {
+			carry = remainder < 0;
+			remainder <<= 1;
+			reciprocal <<= 1;
+			
+			if (carry || (remainder ^ 0x8000000000000000l) >= (divisor ^ 0x8000000000000000l)) {
+				remainder += ~divisor + 1;
+				reciprocal |= 1l;
+			}
+		}
+		
+		return reciprocal;
+	}
+	
 	/**
 	 * Returns integer result of the divison
 	 *
@@ -819,7 +2200,7 @@ public class MiniMath {
 	 * @return integer quotient
 	 */
 	public static Double div(double dividend, double divisor) {
-		return div(new SlicedDouble(dividend), new SlicedDouble(divisor)).getIEEE754();
+		return Primitive.div(dividend, divisor);
 	}
 	
 	/**
@@ -840,19 +2221,19 @@ public class MiniMath {
 	 * @return integer quotient
 	 */
 	public static SlicedDouble div(SlicedDouble dividend, SlicedDouble divisor) {
+		SlicedDouble check = divisionPreCheck(dividend, divisor);
+		if (check != null) return check;
+		
 		String negativesign = getPairSign(dividend, divisor);
 		
 		if (dividend.getExp() < divisor.getExp())
-			return new SlicedDouble("", 0, negativesign);
-		
-		SlicedDouble check = divisionPreCheck(dividend, divisor);
-		if (check != null) return check;
+			return new SlicedDouble(0l, 0, negativesign);
 
 		SlicedDouble result = innerDiv(dividend, divisor, negativesign, 1).getIntSD();
 		result = checkExponentExtremum(result, 1024, -1075);
 		
 		if (result.getDouble() != null) {
-			if (negativesign.length() > 0) result.setSign("-");
+			if (negativesign.length() > 0) result = result.withSign("-");
 		}
 		
 		return result;
@@ -873,7 +2254,7 @@ public class MiniMath {
 	 * 			that is less than or equal to the algebraic quotient
 	 */
 	public static Double floorDiv(double dividend, double divisor) {
-		return floorDiv(new SlicedDouble(dividend), new SlicedDouble(divisor)).getIEEE754();
+		return Primitive.floorDiv(dividend, divisor);
 	}
 	
 	/**
@@ -904,15 +2285,15 @@ public class MiniMath {
 		String negativesign = getPairSign(dividend, divisor);
 		
 		if (dividend.getExp() < divisor.getExp()) {
-			if (negativesign.length() > 0) return new SlicedDouble("1", 0, negativesign);
-			return new SlicedDouble("", 0, negativesign);
+			if (negativesign.length() > 0) return new SlicedDouble(1l, 0, negativesign);
+			return new SlicedDouble(0l, 0, negativesign);
 		}
 		
 		SlicedDouble result = innerDiv(dividend, divisor, negativesign, 2).getIntSD();
 		result = checkExponentExtremum(result, 1024, -1075);
 		
 		if (result.getDouble() != null) {
-			if (negativesign.length() > 0) result.setSign("-");
+			if (negativesign.length() > 0) result = result.withSign("-");
 		}
 		
 		return result;
@@ -925,41 +2306,39 @@ public class MiniMath {
 		double dividendnum = dividend.getIEEE754(), divisornum = divisor.getIEEE754();
 		
 		if (Double.isNaN(divisornum) || Double.isNaN(dividendnum)) 
-			return new SlicedDouble(Double.NaN);
-		else if (divisornum == 1.0) return dividend;
-		else if (divisornum == -1.0) return new SlicedDouble(-dividendnum);
+			return SlicedDouble.valueOf(Double.NaN);
 		else if (divisornum == 0.0) {
-			if (dividendnum == 0.0) return new SlicedDouble(Double.NaN);
+			if (dividendnum == 0.0) return SlicedDouble.valueOf(Double.NaN);
 			else {
 				if (divisor.isNegative() && dividend.isNegative() || 
 					!divisor.isNegative() && !dividend.isNegative()) {
-					return new SlicedDouble(Double.POSITIVE_INFINITY);
+					return SlicedDouble.valueOf(Double.POSITIVE_INFINITY);
 				} else {
-					return new SlicedDouble(Double.NEGATIVE_INFINITY);
+					return SlicedDouble.valueOf(Double.NEGATIVE_INFINITY);
 				}
 			}
 		} 
 		else if (divisornum == Double.POSITIVE_INFINITY) {
 			if (dividendnum == Double.POSITIVE_INFINITY || dividendnum == Double.NEGATIVE_INFINITY)
-				return new SlicedDouble(Double.NaN);
-			else if (dividend.isNegative()) return new SlicedDouble(-0.0);
-			else return new SlicedDouble(0.0);
+				return SlicedDouble.valueOf(Double.NaN);
+			else if (dividend.isNegative()) return SlicedDouble.valueOf(-0.0);
+			else return SlicedDouble.valueOf(0.0);
 		} else if (divisornum == Double.NEGATIVE_INFINITY) {
 			if (dividendnum == Double.POSITIVE_INFINITY || dividendnum == Double.NEGATIVE_INFINITY)
-				return new SlicedDouble(Double.NaN);
-			else if (dividend.isNegative()) return new SlicedDouble(0.0);
-			else return new SlicedDouble(-0.0);
+				return SlicedDouble.valueOf(Double.NaN);
+			else if (dividend.isNegative()) return SlicedDouble.valueOf(0.0);
+			else return SlicedDouble.valueOf(-0.0);
 		} else if (dividendnum == 0.0 && !dividend.isNegative()) {
-			if (divisor.isNegative()) return new SlicedDouble(-0.0);
-			else return new SlicedDouble(0.0);
+			if (divisor.isNegative()) return SlicedDouble.valueOf(-0.0);
+			else return SlicedDouble.valueOf(0.0);
 		} else if (dividendnum == -0.0) {
-			if (divisor.isNegative()) return new SlicedDouble(0.0);
-			else return new SlicedDouble(-0.0);
+			if (divisor.isNegative()) return SlicedDouble.valueOf(0.0);
+			else return SlicedDouble.valueOf(-0.0);
 		} else if (dividendnum == Double.POSITIVE_INFINITY) {
-			if (divisor.isNegative()) return new SlicedDouble(Double.NEGATIVE_INFINITY);
+			if (divisor.isNegative()) return SlicedDouble.valueOf(Double.NEGATIVE_INFINITY);
 			else return dividend;
 		} else if (dividendnum == Double.NEGATIVE_INFINITY) {
-			if (divisor.isNegative()) return new SlicedDouble(Double.POSITIVE_INFINITY);
+			if (divisor.isNegative()) return SlicedDouble.valueOf(Double.POSITIVE_INFINITY);
 			else return dividend;
 		}
 		
@@ -980,7 +2359,7 @@ public class MiniMath {
 	 * @return division remainder closest to zero
 	 */
 	public static Double divisionRemainder(double dividend, double divisor) {
-		return divisionRemainder(new SlicedDouble(dividend), new SlicedDouble(divisor)).getIEEE754();
+		return Primitive.divisionRemainder(dividend, divisor);
 	}
 	
 	/**
@@ -993,7 +2372,8 @@ public class MiniMath {
 	 * If the arguments are not holding compilated {@code double} numbers
 	 * them will be computed, so if you do not wish to lose advantages of
 	 * using {@code SlicedDouble} type, you should not use this method.
-	 * Instead you may use separately {@code innerDiv()} with '3' featuresign.
+	 * Instead you may use separately {@code innerRemainder()} with
+	 * 'false' floormod parameter.
 	 *
 	 * <p><b>Caution:</b>If the divisor is '0' there is no exception,
 	 * instead if the divisor is also 0 you will get Double.NaN as the result.
@@ -1006,23 +2386,14 @@ public class MiniMath {
 	public static SlicedDouble divisionRemainder(SlicedDouble dividend, SlicedDouble divisor) {
 		SlicedDouble check = remainderPreCheck(dividend, divisor);
 		if (check != null) return check;
-
-		String negativesign;
-		if (dividend.isNegative()) negativesign = "-";
-		else negativesign = "";
-		
-		if (divisor.getIEEE754() == Double.POSITIVE_INFINITY || 
-			divisor.getIEEE754() == Double.NEGATIVE_INFINITY || 
-			dividend.getExp() < divisor.getExp())
-			return dividend;
 		
-		SlicedDouble result = innerDiv(dividend, divisor, negativesign, 3);
+		if (divisor.isInfinite()) return dividend;
 		
 		// here we don't need to additional check for overflowing,
-		// for the reason that we already had to check input operands
-		// and if they passed, than here must be a valid value
+		// for the reason that remainder is always less than divisor
+		// and it is exact
 		
-		return result;
+		return getRemainder(dividend, divisor, dividend.isNegative());
 	}
 	
 	/**
@@ -1031,14 +2402,12 @@ public class MiniMath {
 	private static SlicedDouble remainderPreCheck(SlicedDouble dividend, SlicedDouble divisor) {
 		double dividendnum = dividend.getIEEE754(), divisornum = divisor.getIEEE754();
 		
-		if (Double.isNaN(divisornum) || Double.isNaN(dividendnum)) 
-			return new SlicedDouble(Double.NaN);
-		else if (divisornum == 1.0 || divisornum == -1.0)
-			return new SlicedDouble(0.0);
+		if (Double.isNaN(divisornum) || Double.isNaN(dividendnum) || Double.isInfinite(dividendnum)) 
+			return SlicedDouble.valueOf(Double.NaN);
 		else if (dividendnum == 0.0 && divisornum == 0.0)
-			return new SlicedDouble(Double.NaN);
+			return SlicedDouble.valueOf(Double.NaN);
 		else if (dividendnum == 0.0 || divisornum == 0.0)
-			return new SlicedDouble(0.0);
+			return SlicedDouble.valueOf(0.0);
 		
 		return null;
 	}
@@ -1050,18 +2419,18 @@ public class MiniMath {
 	 *
 	 * <p><i>dividend - (floorDiv(dividend, divisor) * divisor)</i>
 	 *
-	 * <p>First of all floorDiv is happend and there is a few special
+	 * <p>But the quotient is not computed here. The remainder of division
+	 * is found exactly, and if its sign is not the same as the sign of
+	 * divisor, the divisor is added to it. There is a few special
 	 * cases that can occur:
 	 *
 	 * <ul>
-	 *	<li>result of floorDiv is Double.NaN than overall result
-	 *			is the same.</li>
-	 *	<li>result of floorDiv is Double.POSITIVE_INFINITY or
-	 *			Double.NEGATIVE_INFINITY than if <i>dividend</i> is
-	 *			Double.POSITIVE_INFINITY or	Double.NEGATIVE_INFINITY than
-	 *			overall result is Double.NaN, and if not - overall result is
-	 *			dividend.</li>
-	 *	<li>result of floorDiv is 0.0 than overall result is dividend.</li>
+	 *	<li>if one of arguments is Double.NaN, or if <i>dividend</i> is
+	 *			Double.POSITIVE_INFINITY or	Double.NEGATIVE_INFINITY,
+	 *			or if both of arguments are 0.0, the result is Double.NaN.</li>
+	 *	<li>if <i>divisor</i> is 0.0 or Double.POSITIVE_INFINITY or
+	 *			Double.NEGATIVE_INFINITY, or if <i>dividend</i> is 0.0,
+	 *			the result is dividend.</li>
 	 * </ul>
 	 *
 	 * <p><b>Caution:</b>If the divisor is '0' there is no exception,
@@ -1073,7 +2442,7 @@ public class MiniMath {
 	 * @return the floor modulus
 	 */
 	public static Double floorMod(double dividend, double divisor) {
-		return floorMod(new SlicedDouble(dividend), new SlicedDouble(divisor)).getIEEE754();
+		return Primitive.floorMod(dividend, divisor);
 	}
 	
 	/**
@@ -1083,18 +2452,18 @@ public class MiniMath {
 	 *
 	 * <p><i>dividend - (floorDiv(dividend, divisor) * divisor)</i>
 	 *
-	 * <p>First of all floorDiv is happend and there is a few special
+	 * <p>But the quotient is not computed here. The remainder of division
+	 * is found exactly, and if its sign is not the same as the sign of
+	 * divisor, the divisor is added to it. There is a few special
 	 * cases that can occur:
 	 *
 	 * <ul>
-	 *	<li>result of floorDiv is Double.NaN than overall result
-	 *			is the same.</li>
-	 *	<li>result of floorDiv is Double.POSITIVE_INFINITY or
-	 *			Double.NEGATIVE_INFINITY than if <i>dividend</i> is
-	 *			Double.POSITIVE_INFINITY or	Double.NEGATIVE_INFINITY than
-	 *			overall result is Double.NaN, and if not - overall result is
-	 *			dividend.</li>
-	 *	<li>result of floorDiv is 0.0 than overall result is dividend.</li>
+	 *	<li>if one of arguments is Double.NaN, or if <i>dividend</i> is
+	 *			Double.POSITIVE_INFINITY or	Double.NEGATIVE_INFINITY,
+	 *			or if both of arguments are 0.0, the result is Double.NaN.</li>
+	 *	<li>if <i>divisor</i> is 0.0 or Double.POSITIVE_INFINITY or
+	 *			Double.NEGATIVE_INFINITY, or if <i>dividend</i> is 0.0,
+	 *			the result is dividend.</li>
 	 * </ul>
 	 *
 	 * <p><b>Important.</b>
@@ -1106,9 +2475,7 @@ public class MiniMath {
 	 *
 	 * {@code SlicedDouble dividend = new SlicedDouble(345.34);}<br>
 	 * {@code SlicedDouble divisor = new SlicedDouble(23.53);}<br>
-	 * {@code SlicedDouble floordiv = MiniMath.innerDiv(dividend, divisor, "", 2).getIntSD();}<br>
-	 * {@code SlicedDouble innermult = MiniMath.innerMult(floordiv, divisor, floordiv.getNegativeSign());}<br>
-	 * {@code SlicedDouble innersub = MiniMath.innerSub(dividend, innermult);}
+	 * {@code SlicedDouble floormod = MiniMath.innerRemainder(dividend, divisor, true);}
 	 *
 	 *
 	 * <p>That would be striclty as if you were using 
@@ -1124,38 +2491,15 @@ public class MiniMath {
 	 * @return the floor modulus
 	 */
 	public static SlicedDouble floorMod(SlicedDouble dividend, SlicedDouble divisor) {
-		SlicedDouble result = floorDiv(dividend, divisor);
-		
-		if (result.getDouble() != null) {
-			if (result.getDouble() == Double.NaN) return result;
-			else if (result.getDouble() == Double.POSITIVE_INFINITY || 
-				result.getDouble() == Double.NEGATIVE_INFINITY) {
-				if (dividend.getDouble() == Double.POSITIVE_INFINITY || dividend.getDouble() == Double.NEGATIVE_INFINITY)
-					return new SlicedDouble(Double.NaN);
-				else return dividend;
-			} else if (result.getDouble() == 0.0) {	
-				return dividend;
-			}
-		}
-		
-		String negativesign;
-		if ((!result.isNegative() && !divisor.isNegative()) ||
-			result.isNegative() && divisor.isNegative()) negativesign = "";
-		else negativesign = "-";
+		double dividendnum = dividend.getIEEE754(), divisornum = divisor.getIEEE754();
 		
-		result = innerMult(divisor, result, negativesign);
-		result = checkExponentExtremum(result, 1024, -1075);
-		if (result.getDouble() != null) {
-			if (result.getDouble() == Double.POSITIVE_INFINITY) {
-				if (negativesign.isEmpty()) return new SlicedDouble(Double.NEGATIVE_INFINITY);
-				else return result;
-			} else {
-				if (negativesign.isEmpty()) result.setSign("-");
-				else result.setSign("");
-			}
-		}
+		if (Double.isNaN(divisornum) || Double.isNaN(dividendnum) || Double.isInfinite(dividendnum) ||
+			(dividendnum == 0.0 && divisornum == 0.0))
+			return SlicedDouble.valueOf(Double.NaN);
+		else if (dividendnum == 0.0 || divisornum == 0.0 || Double.isInfinite(divisornum))
+			return dividend;
 		
-		return innerSub(dividend, result);
+		return innerRemainder(dividend, divisor, true);
 	}
 	
 	// 
@@ -1189,16 +2533,22 @@ public class MiniMath {
 	 *
 	 * <p>The featuresign parameter accept several different values:
 	 * <ul> 
-	 *	<li>if (featuresign == 0) - returns result of full division;</li>
+	 *	<li>if (featuresign == 0) - returns result of full division, its 64 (or 63)
+	 *	leading digits, where the last digit is '1' if the quotient is not exact,
+	 *	so it is rounded to {@code double} right;</li>
 	 *	<li>if (featuresign == 1) - returns result of integer division<br>
 	 *	(exmaple of use: 
 	 *	{@code SlicedDouble floordiv = MiniMath.innerDiv(dividend, divisor, "", 1).getIntSD();});</li>
 	 *	<li>if (featuresign == 2) - returns result floor division<br>
 	 *	(exmaple of use: 
 	 *	{@code SlicedDouble floordiv = MiniMath.innerDiv(dividend, divisor, "", 2).getIntSD();});</li>
-	 *	<li>if (featuresign == 3) - returns remainder of division;</li>
+	 *	<li>if (featuresign == 3) - returns remainder of division, that is
+	 *	the same as {@code innerRemainder()} gives, but with the supplied sign;</li>
 	 * </ul>
 	 *
+	 * <p>If the divisor is '0' the result is an Infinity with the supplied sign,
+	 * or Double.NaN when remainder is requested.
+	 *
 	 * @param dividend		the dividend number
 	 * @param divisor		the divisor number
 	 * @param negativesign	the negativesign
@@ -1206,101 +2556,451 @@ public class MiniMath {
 	 * @return the quotient
 	 */
 	public static SlicedDouble innerDiv(SlicedDouble dividend, SlicedDouble divisor, String negativesign, int featuresign) {
-		if (dividend.getDouble() != null && Double.isNaN(dividend.getDouble()))
+		return innerDiv(dividend, divisor, negativesign, featuresign, 0);
+	}
+	
+	/**
+	 * Returns result of the division of dividend and divisor that is
+	 * computed with the chosen engine.
+	 *
+	 * <p>The featuresign parameter is the same as in
+	 * {@code innerDiv(dividend, divisor, negativesign, featuresign)}.
+	 *
+	 * <p>The enginesign parameter accept several different values:
+	 * <ul> 
+	 *	<li>if (enginesign == 0) - every step produces one digit of quotient;</li>
+	 *	<li>if (enginesign == 1) - every step produces two digits of quotient
+	 *	with the help of precomputed doubled and tripled divisor;</li>
+	 *	<li>if (enginesign == 2) - the reciprocal of divisor is found by Newton's
+	 *	iterations from the tabled initial approximation, and the quotient is
+	 *	the product of dividend and reciprocal with the correction of the
+	 *	last digits. It is used only with '0' featuresign, for others
+	 *	the first engine is used.</li>
+	 * </ul>
+	 *
+	 * <p>All engines give the same results.
+	 *
+	 * @param dividend		the dividend number
+	 * @param divisor		the divisor number
+	 * @param negativesign	the negativesign
+	 * @param featuresign	the operation sign
+	 * @param enginesign	the engine sign
+	 * @return the quotient
+	 */
+	public static SlicedDouble innerDiv(SlicedDouble dividend, SlicedDouble divisor, String negativesign, 
+		int featuresign, int enginesign) {
+		if (dividend.isNaN())
+			return dividend;
+		else if (divisor.isNaN())
+			return divisor;
+		else if (dividend.isZero() && divisor.isZero()) {
+			return SlicedDouble.valueOf(Double.NaN);
+		} else if (divisor.isZero()) {
+			if (featuresign == 3) return SlicedDouble.valueOf(Double.NaN);
+			else if (negativesign.length() > 0) return SlicedDouble.valueOf(Double.NEGATIVE_INFINITY);
+			else return SlicedDouble.valueOf(Double.POSITIVE_INFINITY);
+		}
+		
+		// the quotient is not needed for the remainder
+		if (featuresign == 3) return getRemainder(dividend, divisor, negativesign.length() > 0);
+		
+		// the division by the power of two is only the difference of exponents
+		if (featuresign == 0 && divisor.getLongRaw() == 1l)
+			return new SlicedDouble(dividend.getLongRaw(), dividend.getExponent() + ~divisor.getExponent() + 1,
+				negativesign);
+			
+		long divisorraw = divisor.getLongRaw();
+		int divisorlen = divisor.getRawLength();
+		
+		// for simplifying calculation we only use 63 bits of maximum 64 in divisor
+		// and here we cutting off the excess bit and then making simple rounding,
+		// so the full quotient can not be exact after it
+		boolean roundeddivisor = divisorlen == 64;
+		if (roundeddivisor) {
+			divisorraw = (divisorraw >>> 1) + (divisorraw & 1l);
+			divisorlen = 63;
+		}
+		
+		if (enginesign == 2 && featuresign == 0 && divisorraw > 0 && !dividend.isZero())
+			return divideNewton(dividend, divisorraw << (64 + ~divisorlen + 1), divisor.getExponent(), negativesign,
+				roundeddivisor);
+		
+		// calculating number of required steps
+		int stepnum;
+		if (featuresign == 0) stepnum = 63;
+		else stepnum = dividend.getExponent() + ~divisor.getExponent() + 1;
+		if (featuresign > 0 && stepnum < 0) stepnum = 0;
+		
+		// the registers of division are: the remainder, the rest of dividend digits
+		// that are waiting for their turn (left aligned), the quotient, the number
+		// of quotient digits, the number of dividend digits that were consumed and
+		// the tag of '1' digits of quotient that were cut off after the 64 leading ones
+		long[] registers = new long[6];
+		
+		// the remainder register initially holds the leading digits of dividend
+		long dividendraw = dividend.getLongRaw();
+		int dividendlen = dividend.getRawLength();
+		
+		if (dividendlen > divisorlen) {
+			registers[0] = dividendraw >>> (dividendlen + ~divisorlen + 1);
+			registers[1] = dividendraw << (64 + ~dividendlen + 1 + divisorlen);
+		} else {
+			registers[0] = dividendraw << (divisorlen + ~dividendlen + 1);
+		}
+		registers[4] = divisorlen;
+		
+		// initialzero is a tag of result of first substraction
+		int initialzero;
+		
+		// first step holds a special case and it is a 'zero' step
+		long residual = registers[0] + ~divisorraw + 1;
+		if (residual > 0xffffffff) {
+			registers[0] = residual;
+			registers[2] = 1l;
+			registers[3] = 1l;
+			initialzero = 0;
+		} else {
+			initialzero = 1;
+		}
+		
+		// following steps will produce the rest of the result
+		if (enginesign == 1) divideRadix4(registers, divisorraw, stepnum);
+		else divideRadix2(registers, divisorraw, stepnum);
+		
+		long remainder = registers[0], dividendtail = registers[1], quotient = registers[2];
+		
+		// the digits that were cut off are turning to the sticky digit,
+		// so the integer quotient is rounded to double as the whole one
+		if (registers[5] == 1l) quotient |= 1l;
+		
+		// the same is for the full quotient that is not exact: the last of its digits
+		// is '1', so the cut value that looks like the half is not rounded to even
+		if (featuresign == 0 && (remainder != 0 || dividendtail != 0 || roundeddivisor)) quotient |= 1l;
+		
+		int resultexp = getDivisionExponent(dividend.getExponent(), divisor.getExponent(), initialzero);
+		
+		// if we perform floorDiv and the result is negative and there is a remainder
+		// we need to add '1' to the absolute value of quotient before the rounding
+		if (featuresign == 2 && negativesign.length() > 0 && (remainder != 0 || dividendtail != 0)) {
+			if (quotient == 0) return new SlicedDouble(1l, 0, negativesign);
+			
+			// below 2^64 the quotient holds all the integer digits,
+			// above it the '1' is only a sticky digit below them
+			if (resultexp < 64) {
+				long next = quotient + 1;
+				
+				if (next == 0) {
+					next = 1l;
+					resultexp++;
+				} else if (Long.numberOfLeadingZeros(next) < Long.numberOfLeadingZeros(quotient)) {
+					resultexp++;
+				}
+				
+				quotient = next;
+			} else {
+				quotient |= 1l;
+			}
+		}
+		
+		return new SlicedDouble(quotient, resultexp, negativesign);
+	}
+	
+	/**
+	 * Returns the remainder of division of dividend and divisor.
+	 *
+	 * <p>The quotient is not computing here. Instead the dividend is reducing
+	 * by the divisor that is shifted to its leading digits, as long as
+	 * the rest is not less than divisor. The runs of zeros in the rest
+	 * are skipped at once, so the work does not depend on the length of
+	 * quotient so much as in {@code innerDiv()}. The remainder is exact.
+	 *
+	 * <p>If floormod parameter is false, the result has the sign of dividend,
+	 * as the operator '%' gives. If it is true, the result is a floor
+	 * modulus, that has the sign of divisor, and then it is rounded
+	 * as in {@code innerSum()} if the divisor had to be added.
+	 *
+	 * <p>If the divisor is '0', or the dividend is an Infinity,
+	 * the result is Double.NaN. If the divisor is an Infinity the
+	 * result is dividend, or divisor for floor modulus if their signs
+	 * are different.
+	 *
+	 * @param dividend	the dividend number
+	 * @param divisor	the divisor number
+	 * @param floormod	true if floor modulus is needed
+	 * @return the remainder
+	 */
+	public static SlicedDouble innerRemainder(SlicedDouble dividend, SlicedDouble divisor, boolean floormod) {
+		if (dividend.isNaN())
 			return dividend;
-		else if (divisor.getDouble() != null && Double.isNaN(divisor.getDouble()))
+		else if (divisor.isNaN())
 			return divisor;
-		else if (dividend.getBinaryRaw().isEmpty() && divisor.getBinaryRaw().isEmpty()) {
-			return new SlicedDouble(Double.NaN);
+		else if (divisor.isZero() || dividend.isInfinite())
+			return SlicedDouble.valueOf(Double.NaN);
+		else if (dividend.isZero())
+			return dividend;
+		
+		boolean different = dividend.isNegative() != divisor.isNegative();
+		
+		if (divisor.isInfinite()) {
+			if (floormod && different) return divisor;
+			else return dividend;
+		}
+		
+		SlicedDouble result = getRemainder(dividend, divisor, dividend.isNegative());
+		
+		if (floormod && different && !result.isZero()) return innerSum(result, divisor);
+		else return result;
+	}
+	
+	/**
+	 * Returns the reciprocal of number, that is computed by Newton's engine
+	 * of division. It is the same as
+	 * {@code innerDiv(new SlicedDouble(1.0), number, number.getNegativeSign(), 0)}.
+	 *
+	 * @param number	the number
+	 * @return the reciprocal
+	 */
+	public static SlicedDouble reciprocal(SlicedDouble number) {
+		return innerDiv(SlicedDouble.valueOf(1.0), number, number.getNegativeSign(), 0, 2);
+	}
+	
+	/**
+	 * Auxiliary method that performs steps of division that are giving
+	 * one digit of quotient each. On each step the next digit of dividend
+	 * is shifting in the remainder.
+	 */
+	private static void divideRadix2(long[] registers, long divisorraw, int stepnum) {
+		long remainder = registers[0], dividendtail = registers[1], quotient = registers[2], residual;
+		int quotientlen = (int)registers[3], consumed = (int)registers[4];
+		
+		for (int i = 0; i < stepnum; i++) {
+			
+			// nothing is left to divide, so all the next digits of quotient are zeros
+			if (remainder == 0 && dividendtail == 0) break;
+			
+			remainder = (remainder << 1) | (dividendtail >>> 63);
+			dividendtail <<= 1;
+			consumed++;
+			
+			residual = remainder + ~divisorraw + 1;
+			if (residual > 0xffffffff) {
+				remainder = residual;
+				if (quotientlen < 64) {
+					quotient = (quotient << 1) | 1l;
+					quotientlen++;
+				} else {
+					registers[5] = 1l;
+				}
+			} else if (quotientlen > 0 && quotientlen < 64) {
+				quotient <<= 1;
+				quotientlen++;
+			}
 		}
+		
+		registers[0] = remainder;
+		registers[1] = dividendtail;
+		registers[2] = quotient;
+		registers[3] = quotientlen;
+		registers[4] = consumed;
+	}
+	
+	/**
+	 * Auxiliary method that performs steps of division that are giving
+	 * two digits of quotient each. On each step the next two digits of
+	 * dividend are shifting in the remainder that becomes 66 bits long,
+	 * so its highest bits are holding separately in the remainderhigh.
+	 * Then it is compared with tripled, doubled and single divisor.
+	 * If the number of steps is odd the last of them is a single digit step.
+	 */
+	private static void divideRadix4(long[] registers, long divisorraw, int stepnum) {
+		long remainder = registers[0], dividendtail = registers[1], quotient = registers[2];
+		int quotientlen = (int)registers[3], consumed = (int)registers[4];
+		
+		// doubled and tripled divisor, their highest bits are holding separately
+		long doubled = divisorraw << 1, tripled = doubled + divisorraw;
+		long doubledhigh = divisorraw >>> 63;
+		long tripledhigh = doubledhigh + getCarry(doubled, divisorraw, tripled);
+		
+		long remainderhigh;
+		int digits, i = 0;
+		
+		for (; i + 1 < stepnum; i += 2) {
+			
+			// nothing is left to divide, so all the next digits of quotient are zeros
+			if (remainder == 0 && dividendtail == 0) break;
+			
+			remainderhigh = remainder >>> 62;
+			remainder = (remainder << 2) | (dividendtail >>> 62);
+			dividendtail <<= 2;
+			consumed += 2;
+			
+			if (isNotLess(remainderhigh, remainder, tripledhigh, tripled)) {
+				remainder += ~tripled + 1;
+				digits = 3;
+			} else if (isNotLess(remainderhigh, remainder, doubledhigh, doubled)) {
+				remainder += ~doubled + 1;
+				digits = 2;
+			} else if (isNotLess(remainderhigh, remainder, 0l, divisorraw)) {
+				remainder += ~divisorraw + 1;
+				digits = 1;
+			} else {
+				digits = 0;
+			}
 			
-		String dividendraw = dividend.getBinaryRaw();
-		String checksorraw = divisor.getBinaryRaw();
-		long divisorlong;
-		
-		// for simplifying calculation we only use 63 bits of maximum 64 in divisor
-		// and here we cutting off the excess bit and then making simple rounding
-		if (checksorraw.length() == 64) {
-			divisorlong = Long.parseLong(checksorraw.substring(0, 63), 2);
-			if (checksorraw.charAt(63) == '1') divisorlong++;
-			checksorraw = checksorraw.substring(0, 63);
-		} else {
-			divisorlong = divisor.getLongRaw();
+			// leading zeros of quotient are omitting
+			if (quotientlen == 0) {
+				if (digits > 1) {
+					quotient = digits;
+					quotientlen = 2;
+				} else if (digits == 1) {
+					quotient = 1l;
+					quotientlen = 1;
+				}
+			} else if (quotientlen < 63) {
+				quotient = (quotient << 2) | digits;
+				quotientlen += 2;
+			} else if (quotientlen == 63) {
+				quotient = (quotient << 1) | (digits >>> 1);
+				quotientlen = 64;
+				if ((digits & 1) == 1) registers[5] = 1l;
+			} else if (digits > 0) {
+				registers[5] = 1l;
+			}
 		}
 		
-		int divisorlen = checksorraw.length();
+		registers[0] = remainder;
+		registers[1] = dividendtail;
+		registers[2] = quotient;
+		registers[3] = quotientlen;
+		registers[4] = consumed;
 		
-		// calculating number of required steps
-		int stepnum;
-		if (featuresign == 0) stepnum = 63;
-		else stepnum = dividend.getExp() + ~divisor.getExp() + 1;
-		if (featuresign > 0 && stepnum < 0) stepnum = 0;
+		if (i < stepnum) divideRadix2(registers, divisorraw, stepnum + ~i + 1);
+	}
+	
+	/**
+	 * Auxiliary method that gives the same quotient as the other engines
+	 * of {@code innerDiv()} with '0' featuresign, that is 64 (or 63) leading
+	 * digits of quotient, where the last digit is '1' if it is not exact.
+	 * If both of mantissas are left aligned in long numbers M and D, it is
+	 * {@code M*2^63/D} rounded down. The roundeddivisor is true if the
+	 * divisor was rounded to 63 digits, so the quotient is not exact anyway.
+	 */
+	private static SlicedDouble divideNewton(SlicedDouble dividend, long divisorraw, int divisorexp, 
+		String negativesign, boolean roundeddivisor) {
+		long dividendraw = dividend.getLongRaw() << (64 + ~dividend.getRawLength() + 1), quotient;
 		
-		// adding zeros to dividend for necessary length
-		int dividendlen = divisorlen + stepnum;
-		for (int i = dividendraw.length(); i < dividendlen; i++) dividendraw += '0';
+		// the divisor is a power of two
+		if (divisorraw == 0x8000000000000000l) quotient = dividendraw;
+		else quotient = getCorrectedQuotient(dividendraw, divisorraw, getNewtonReciprocal(divisorraw));
 		
-		long minuend, residual;
+		if (roundeddivisor) quotient |= 1l;
 		
-		// initialzero is a tag of result of first substraction
+		// the quotient is 63 digits long if the first substraction in other engines fails
 		int initialzero;
-		String quotient = "", residualstr, subzeros;
+		if (quotient < 0) initialzero = 0;
+		else initialzero = 1;
 		
-		// first step holds a special case and it is a 'zero' step
-		minuend = Long.parseUnsignedLong(dividendraw.substring(0, divisorlen), 2);
-		residual = minuend + ~divisorlong + 1;
-		if (residual > 0xffffffff) {
-			residualstr = Long.toBinaryString(residual);
-			subzeros = "";
-			for (int i = 0, len = divisorlen + ~residualstr.length() + 1; i < len; i++) {
-				subzeros += "0";
-			}
-			dividendraw = subzeros + residualstr + dividendraw.substring(divisorlen);
-			quotient += '1';
-			initialzero = 0;
-		} else {
-			initialzero = 1;
-		}
+		return new SlicedDouble(quotient, getDivisionExponent(dividend.getExponent(), divisorexp, initialzero), 
+			negativesign);
+	}
+	
+	/**
+	 * Auxiliary method that returns the approximation of {@code 2^127/divisor}
+	 * for the left aligned divisor that is not a power of two. Each of Newton's
+	 * iterations {@code x = x + x*(1 - divisor*x)} is doubling the number of
+	 * correct digits, so four of them are giving all 64 digits from 8 digits
+	 * of the table, except the last one or two.
+	 */
+	private static long getNewtonReciprocal(long divisor) {
+		long reciprocal = (long)RECIPROCAL_SEEDS[(int)(divisor >>> 56) & 0x7f] << 55;
+		long[] product = new long[2];
+		long errorhigh, errorlow, previous;
 		
-		// following steps will produce the rest of the result
-		for (int left = 0, right = divisorlen+1; left < stepnum; left++, right++) {
-			minuend = Long.parseUnsignedLong(dividendraw.substring(0, right), 2);
-			residual = minuend + ~divisorlong + 1;
-			if (residual > 0xffffffff) {
-				residualstr = Long.toBinaryString(residual);
-				subzeros = "";
-				for (int i = 0, len = right + ~residualstr.length() + 1; i < len; i++) {
-					subzeros += "0";
-				}
-				dividendraw = subzeros + residualstr + dividendraw.substring(right);
-				quotient += '1';
+		for (int i = 0; i < 4; i++) {
+			multLongRaw(divisor, reciprocal, product);
+			
+			// the error is 2^127 - divisor*reciprocal, and it is small enough
+			// to take only its digits from 63rd to 126th with the sign
+			errorlow = ~product[1] + 1;
+			errorhigh = 0x8000000000000000l + ~product[0];
+			if (product[1] == 0) errorhigh++;
+			errorhigh = (errorhigh << 1) | (errorlow >>> 63);
+			
+			previous = reciprocal;
+			
+			if (errorhigh < 0) {
+				multLongRaw(reciprocal, ~errorhigh + 1, product);
+				reciprocal += ~product[0] + 1;
+				
+				// the reciprocal of divisor that is not a power of two is over 2^63
+				if ((reciprocal ^ 0x8000000000000000l) > (previous ^ 0x8000000000000000l))
+					reciprocal = 0x8000000000000000l;
 			} else {
-				quotient += '0';
+				multLongRaw(reciprocal, errorhigh, product);
+				reciprocal += product[0];
+				
+				// and it is below 2^64
+				if ((reciprocal ^ 0x8000000000000000l) < (previous ^ 0x8000000000000000l))
+					reciprocal = 0xffffffffffffffffl;
 			}
 		}
-
-		int resultexp;
 		
-		if (featuresign < 3) {
-			resultexp = getDivisionExponent(dividend.getExp(), divisor.getExp(), initialzero);	
-		} else {
-			resultexp = getRemainderExponent(dividend.getExp(), dividendraw);
+		return reciprocal;
+	}
+	
+	/**
+	 * Auxiliary method that returns {@code dividend*2^63/divisor} rounded down
+	 * for the left aligned numbers with the help of approximation of
+	 * {@code 2^127/divisor}. The quotient from the product of dividend and
+	 * reciprocal is corrected until the remainder is not negative and
+	 * is less than divisor. If the remainder is not zero, the last digit
+	 * of quotient is '1'.
+	 */
+	private static long getCorrectedQuotient(long dividend, long divisor, long reciprocal) {
+		long[] product = new long[2];
+		
+		multLongRaw(reciprocal, dividend, product);
+		long quotient = product[0];
+		
+		// the dividend*2^63 and the quotient*divisor with the flipped highest bits
+		// of their high parts, so they can be compared as signed numbers
+		long targethigh = (dividend >>> 1) ^ 0x8000000000000000l, targetlow = dividend << 63;
+		
+		multLongRaw(divisor, quotient, product);
+		long high = product[0] ^ 0x8000000000000000l, low = product[1];
+		
+		while (!isNotLess(targethigh, targetlow, high, low)) {
+			// adding of complement of divisor that has all ones in its high part
+			quotient += 0xffffffffffffffffl;
+			high += getCarry(low, ~divisor + 1, low + ~divisor + 1) + 0xffffffffffffffffl;
+			low += ~divisor + 1;
 		}
 		
-		if (featuresign < 3) {
-			// if we perform floorDiv and the result is negative and there is a remainder
-			// we need to handle it by substracion of -1 to the final result before returning it
-			if (featuresign == 2 && negativesign.length() > 0 && resultexp < 53 && 
-				dividendraw.indexOf('1') > 0xffffffff) {
-				return new SlicedDouble(
-					new SlicedDouble(quotient, resultexp, negativesign)
-						.getIEEE754() + 0xffffffff);
-						
-			}
-			return new SlicedDouble(quotient, resultexp, negativesign);
-		} else {
-			return new SlicedDouble(dividendraw, resultexp, negativesign);
+		for (long nexthigh, nextlow; ; ) {
+			nextlow = low + divisor;
+			nexthigh = high + getCarry(low, divisor, nextlow);
+			
+			if (!isNotLess(targethigh, targetlow, nexthigh, nextlow)) break;
+			
+			quotient++;
+			high = nexthigh;
+			low = nextlow;
 		}
+		
+		if (high != targethigh || low != targetlow) quotient |= 1l;
+		
+		return quotient;
+	}
+	
+	/**
+	 * Auxiliary method that compares two unsigned numbers whose highest
+	 * bits are holding separately and returns true if the first of them
+	 * is not less than the second.
+	 */
+	private static boolean isNotLess(long high1, long low1, long high2, long low2) {
+		if (high1 != high2) return high1 > high2;
+		
+		return (low1 ^ 0x8000000000000000l) >= (low2 ^ 0x8000000000000000l);
 	}
 	
 	/**
@@ -1311,13 +3011,120 @@ public class MiniMath {
 	}
 	
 	/**
-	 * Auxiliary method to get division remainder exponent
+	 * Auxiliary method that reduces the dividend by divisor like the
+	 * partial remainder instruction of FPU does. Both of mantissas are
+	 * left aligned, and the exponent is relating to the highest digit
+	 * of rest. If the rest is less than divisor, then it is doubled,
+	 * and the highest digit that goes out is more than any divisor,
+	 * so the difference of them is always fits the register.
+	 */
+	private static SlicedDouble getRemainder(SlicedDouble dividend, SlicedDouble divisor, boolean negative) {
+		if (dividend.isZero()) return new SlicedDouble(0l, 0, negative);
+		
+		long rest = dividend.getLongRaw(), divisorraw = divisor.getLongRaw();
+		rest <<= Long.numberOfLeadingZeros(rest);
+		divisorraw <<= Long.numberOfLeadingZeros(divisorraw);
+		
+		int exp = dividend.getExponent(), divisorexp = divisor.getExponent(), shift;
+		
+		// the dividend is already less than divisor
+		if (exp < divisorexp) return new SlicedDouble(rest, exp, negative);
+		
+		while (true) {
+			if (isNotLess(0l, rest, 0l, divisorraw)) {
+				rest += ~divisorraw + 1;
+			} else if (exp > divisorexp) {
+				rest = (rest << 1) + ~divisorraw + 1;
+				exp += 0xffffffff;
+			} else break;
+			
+			if (rest == 0) return new SlicedDouble(0l, 0, negative);
+			
+			// the zeros of rest are giving the zeros of quotient, so they are skipped
+			shift = Long.numberOfLeadingZeros(rest);
+			if (shift > exp + ~divisorexp + 1) {
+				rest <<= exp + ~divisorexp + 1;
+				exp = divisorexp;
+				break;
+			}
+			rest <<= shift;
+			exp += ~shift + 1;
+		}
+		
+		return new SlicedDouble(rest, exp + ~Long.numberOfLeadingZeros(rest) + 1, negative);
+	}
+	
+	/**
+	 * Auxiliary method that returns the integer value of number, if it is
+	 * an integer and its absolute value is less than 2^53, so all the
+	 * operations with it in long numbers are exact. In any other case, and
+	 * for zeros that are leaving to the general way for their signs, it
+	 * returns 0.
+	 */
+	private static long getSmallInteger(double number) {
+		long bits = Double.doubleToRawLongBits(number);
+		int exp = ((int)(bits >>> 52) & 0x7ff) + 0xfffffc01;
+		
+		if (exp < 0 || exp > 52) return 0l;
+		
+		long mantissa = bits & 0x000fffffffffffffl;
+		if ((mantissa & (0x000fffffffffffffl >>> exp)) != 0) return 0l;
+		
+		mantissa = (mantissa | 0x0010000000000000l) >>> (52 + ~exp + 1);
+		
+		if (bits < 0) return ~mantissa + 1;
+		else return mantissa;
+	}
+	
+	/**
+	 * Auxiliary method that returns the product of small integers
+	 * by shifts and additions, or 0 if the product may be not less than
+	 * 2^53, that is when the sum of their lengths is more than 53.
+	 */
+	private static long multSmallIntegers(long number1, long number2) {
+		boolean negative = (number1 ^ number2) < 0;
+		if (number1 < 0) number1 = ~number1 + 1;
+		if (number2 < 0) number2 = ~number2 + 1;
+		
+		if (Long.numberOfLeadingZeros(number1) + Long.numberOfLeadingZeros(number2) < 75) return 0l;
+		
+		// every '1' of second number adds the shifted first number
+		long product = 0l;
+		while (number2 != 0) {
+			product += number1 << Long.numberOfTrailingZeros(number2);
+			number2 &= number2 + 0xffffffffffffffffl;
+		}
+		
+		if (negative) return ~product + 1;
+		else return product;
+	}
+	
+	/**
+	 * Auxiliary method that returns the integer quotient of small integers,
+	 * that is closest to zero, or the floor quotient if floor is true.
+	 * The divisor is shifted to the leading digit of dividend and
+	 * substracted from it where it is possible.
 	 */
-	private static int getRemainderExponent(int dividendexp, String dividendraw) {
-		int remainderstart = dividendraw.indexOf('1');
+	private static long divideSmallIntegers(long dividend, long divisor, boolean floor) {
+		boolean negative = (dividend ^ divisor) < 0;
+		if (dividend < 0) dividend = ~dividend + 1;
+		if (divisor < 0) divisor = ~divisor + 1;
+		
+		long quotient = 0l, shifted;
+		
+		for (int shift = Long.numberOfLeadingZeros(divisor) + ~Long.numberOfLeadingZeros(dividend) + 1; 
+			shift >= 0; shift += 0xffffffff) {
+			shifted = divisor << shift;
+			if (dividend >= shifted) {
+				dividend += ~shifted + 1;
+				quotient |= 1l << shift;
+			}
+		}
+		
+		if (floor && negative && dividend != 0) quotient++;
 		
-		if (remainderstart == 0xffffffff) return 0;
-		else return dividendexp + ~dividendraw.indexOf('1') + 1;
+		if (negative) return ~quotient + 1;
+		else return quotient;
 	}
 	
 	/**
@@ -1330,7 +3137,7 @@ public class MiniMath {
 	 * @return the absolute value of a giving number
 	 */
 	public static Double abs(double number) {
-		return abs(new SlicedDouble(number)).getIEEE754();
+		return Primitive.abs(number);
 	}
 	
 	/**
@@ -1346,22 +3153,23 @@ public class MiniMath {
 	 * @return the absolute value of a giving number
 	 */
 	public static SlicedDouble abs(SlicedDouble number) {
-		SlicedDouble numberclone = number.clone();
-		numberclone.setSign("");
-		
-		return numberclone;
+		return number.withSign("");
 	}
 	
 	/**
 	 * Returns the largest (closest to positive infinity) number that is 
 	 * less than or equal to the argument and is equal to a mathematical integer.
 	 *
+	 * <p>It works directly with the bits of {@code double} number: the
+	 * digits of fractional part are masked, and for negative numbers
+	 * the unit is added to the mantissa before.
+	 *
 	 * @param number the number
 	 * @return the largest (closest to positive infinity) number that is 
 	 * 			less than or equal to the argument and is equal to a mathematical integer.
 	 */
-	public static Double floor(double number) {	
-		return floor(new SlicedDouble(number)).getIEEE754(); 
+	public static Double floor(double number) {
+		return Primitive.floor(number);
 	}
 	
 	/**
@@ -1373,27 +3181,26 @@ public class MiniMath {
 	 * 			less than or equal to the argument and is equal to a mathematical integer.
 	 */
 	public static SlicedDouble floor(SlicedDouble number) {
-		double dblnumber = number.getIntSD().getIEEE754();
+		if (number.isNaN() || number.isInfinite() || !number.hasFraction()) return number.getIntSD();
 		
-		if (Double.isNaN(dblnumber) || dblnumber == Double.POSITIVE_INFINITY || 
-			dblnumber == Double.NEGATIVE_INFINITY || number.getNegativeSign().isEmpty())
-			return number.getIntSD();
-		else {
-			if (number.getFractRaw().length() > 0) return new SlicedDouble(dblnumber + 0xffffffff);
-			else return number.getIntSD();
-		}
+		if (number.isNegative()) return getIntegerSD(number.getLongIntRaw() + 1, true);
+		else return getIntegerSD(number.getLongIntRaw(), false);
 	}
 	
 	/**
 	 * Returns the smallest (closest to negative infinity) number that is greater
 	 * than or equal to the argument and is equal to a mathematical integer
 	 *
+	 * <p>It works directly with the bits of {@code double} number: the
+	 * digits of fractional part are masked, and for positive numbers
+	 * the unit is added to the mantissa before.
+	 *
 	 * @param number the number
 	 * @return the smallest (closest to negative infinity) number that is greater 
 	 *			than or equal to the argument and is equal to a mathematical integer
 	 */
 	public static Double ceil(double number) {
-		return ceil(new SlicedDouble(number)).getIEEE754(); 
+		return Primitive.ceil(number);
 	}
 	
 	/**
@@ -1405,24 +3212,69 @@ public class MiniMath {
 	 *			than or equal to the argument and is equal to a mathematical integer
 	 */
 	public static SlicedDouble ceil(SlicedDouble number) {
-		double dblnumber = floor(number).getIEEE754();
+		if (number.isNaN()) return SlicedDouble.valueOf(Double.NaN);
+		else if (number.isInfinite() || !number.hasFraction()) return number.getIntSD();
 		
-		if (number.getFractRaw() != null && number.getFractRaw().length() > 0) {
-			++dblnumber;
-			if (dblnumber == 0.0) return new SlicedDouble("", 0, "-");
-		} 
+		if (number.isNegative()) return getIntegerSD(number.getLongIntRaw(), true);
+		else return getIntegerSD(number.getLongIntRaw() + 1, false);
+	}
+	
+	/**
+	 * Returns the number that is equal to a mathematical integer and is
+	 * closest to the argument. If there are two of them, the even one is
+	 * returned. The information about special cases is the same as in
+	 * {@code java.lang.Math} class method.
+	 *
+	 * @param number the number
+	 * @return the closest to the argument number that is equal to a mathematical integer
+	 */
+	public static Double rint(double number) {
+		return Primitive.rint(number);
+	}
+	
+	/**
+	 * Returns the number that is equal to a mathematical integer and is
+	 * closest to the argument. If there are two of them, the even one is
+	 * returned.
+	 *
+	 * @param number the number
+	 * @return the closest to the argument number that is equal to a mathematical integer
+	 */
+	public static SlicedDouble rint(SlicedDouble number) {
+		if (number.isNaN() || number.isInfinite() || !number.hasFraction()) return number.getIntSD();
+		
+		int exp = number.getExponent();
+		
+		// only the numbers over 0.5 are closer to 1 than to 0
+		if (exp < 0xffffffff || (exp == 0xffffffff && number.getLongRaw() == 1l)) 
+			return new SlicedDouble(0l, 0, number.isNegative());
+		
+		long intraw = number.getLongIntRaw(), fract = number.getLongFractRaw();
+		long half = 1l << (number.getFractLength() + 0xffffffff);
 		
-		return new SlicedDouble(dblnumber);
+		if (fract > half || (fract == half && (intraw & 1l) == 1l)) intraw++;
+		
+		return getIntegerSD(intraw, number.isNegative());
+	}
+	
+	/**
+	 * Auxiliary method that makes the {@code SlicedDouble} from the integer
+	 */
+	private static SlicedDouble getIntegerSD(long intraw, boolean negative) {
+		return new SlicedDouble(intraw, 64 + ~Long.numberOfLeadingZeros(intraw), negative);
 	}
 	
 	/**
 	 * Returns value of fractional part of a giving number that is closest to zero
 	 *
+	 * <p>It works directly with the bits of {@code double} number: the
+	 * digits of integer part are masked, and the rest is normalized.
+	 *
 	 * @param number the number
 	 * @return value of fractional part of a giving number that is closest to zero
 	 */
 	public static Double fraction(double number) {
-		return fraction(new SlicedDouble(number)).getIEEE754(); 
+		return Primitive.fraction(number);
 	}
 	
 	/**
@@ -1443,7 +3295,7 @@ public class MiniMath {
 	 * @return the residual
 	 */
 	public static Double substraction(double minuend, double subtrahend) {
-		return substraction(new SlicedDouble(minuend), new SlicedDouble(subtrahend)).getIEEE754();
+		return Primitive.substraction(minuend, subtrahend);
 	}
 	
 	/**
@@ -1464,23 +3316,19 @@ public class MiniMath {
 		double minuendnum = minuend.getIEEE754(), subtrahendnum = subtrahend.getIEEE754();
 		
 		if (Double.isNaN(minuendnum) || Double.isNaN(subtrahendnum))
-			return new SlicedDouble(Double.NaN);
+			return SlicedDouble.valueOf(Double.NaN);
 		else if (minuendnum == Double.POSITIVE_INFINITY) {
-			if (subtrahendnum == Double.POSITIVE_INFINITY) return new SlicedDouble(Double.NaN);
+			if (subtrahendnum == Double.POSITIVE_INFINITY) return SlicedDouble.valueOf(Double.NaN);
 			else return minuend;
 		} else if (minuendnum == Double.NEGATIVE_INFINITY) {
-			if (subtrahendnum == Double.NEGATIVE_INFINITY) return new SlicedDouble(Double.NaN);
+			if (subtrahendnum == Double.NEGATIVE_INFINITY) return SlicedDouble.valueOf(Double.NaN);
 			else return minuend;
 		} else if (subtrahendnum == Double.POSITIVE_INFINITY)
-			return new SlicedDouble(Double.NEGATIVE_INFINITY);
+			return SlicedDouble.valueOf(Double.NEGATIVE_INFINITY);
 		else if (subtrahendnum == Double.NEGATIVE_INFINITY)
-			return new SlicedDouble(Double.POSITIVE_INFINITY);
+			return SlicedDouble.valueOf(Double.POSITIVE_INFINITY);
 		else if (subtrahendnum == 0.0) return minuend;
-		else if (minuendnum == 0.0)  {
-			SlicedDouble clonesubtrahend = subtrahend.clone();
-			clonesubtrahend.reverseSign();
-			return clonesubtrahend;
-		}
+		else if (minuendnum == 0.0) return subtrahend.negate();
 		
 		SlicedDouble result = innerSub(minuend, subtrahend);
 		result = checkExponentExtremum(result, 1024, -1075);
@@ -1512,218 +3360,897 @@ public class MiniMath {
 	 * @return the residual
 	 */
 	public static SlicedDouble innerSub(SlicedDouble minuend, SlicedDouble subtrahend) {
-		if (minuend.getDouble() != null && Double.isNaN(minuend.getDouble()))
+		if (minuend.isNaN())
 			return minuend;
-		else if (subtrahend.getDouble() != null && Double.isNaN(subtrahend.getDouble()))
+		else if (subtrahend.isNaN())
 			return subtrahend;
 		
 		// because we want to hold SlicedDouble format with inner methods, 
 		// we must to keep raw format as it is, and do not evaluate double value
-		// cause it may not exist for this time (if we calling .getDouble(),
-		// or if we call .getIEEE754() it may brings current object to unwanted mutation
-		if (minuend.getBinaryRaw().length() == 0) {
-			if (subtrahend.getBinaryRaw().length() > 0) {
-				SlicedDouble subclone = subtrahend.clone();
-				subclone.reverseSign();
-				return subclone;
-			} else return minuend;
+		// cause it may not exist for this time (if we calling .getDouble()),
+		// and .getIEEE754() would round it
+		if (minuend.isZero()) {
+			if (!subtrahend.isZero()) return subtrahend.negate();
+			else return minuend;
 		}
-		if (subtrahend.getBinaryRaw().length() == 0) return minuend;
+		if (subtrahend.isZero()) return minuend;
 		
 		if ((!minuend.isNegative() && subtrahend.isNegative())) {
-			SlicedDouble number2 = subtrahend.clone();
-			number2.setSign("");
-			return innerSum(minuend, number2);
+			return innerSum(minuend, subtrahend.withSign(""));
 		}
 		if (minuend.isNegative() && !subtrahend.isNegative()) {
-			SlicedDouble number2 = subtrahend.clone();
-			number2.setSign("-");
-			return innerSum(minuend, number2);
+			return innerSum(minuend, subtrahend.withSign("-"));
+		}
+		
+		return addAligned(minuend, subtrahend, true, minuend.isNegative());
+	}
+	
+	/**
+	 * Returns the sum
+	 *
+	 * @param number1 the addendum1
+	 * @param number2 the addendum2
+	 * @return sum
+	 */
+	public static Double sum(double number1, double number2) {
+		return Primitive.sum(number1, number2);
+	}
+	
+	/**
+	 * Returns the sum
+	 *
+	 * <p><b>Important.</b>
+	 * <p>This method works directly with {@code SlicedDouble} type of inputs.
+	 * If the arguments are not holding compilated {@code double} numbers
+	 * them will be computed, so if you do not wish to lose advantages of
+	 * using {@code SlicedDouble} type, you should not use this method.
+	 * Instead you may use {@code innerSum()}:
+	 *
+	 * @param number1 the addendum1
+	 * @param number2 the addendum2
+	 * @return sum
+	 */
+	public static SlicedDouble sum(SlicedDouble number1, SlicedDouble number2) {
+		double dblnumber1 = number1.getIEEE754(), dblnumber2 = number2.getIEEE754();
+		
+		if (Double.isNaN(dblnumber1) || Double.isNaN(dblnumber2))
+			return SlicedDouble.valueOf(Double.NaN);
+		if (dblnumber1 == Double.POSITIVE_INFINITY) {
+			if (dblnumber2 == Double.NEGATIVE_INFINITY) return SlicedDouble.valueOf(Double.NaN);
+			else return number1;
+		} else if (dblnumber1 == Double.NEGATIVE_INFINITY) {
+			if (dblnumber2 == Double.POSITIVE_INFINITY) return SlicedDouble.valueOf(Double.NaN);
+			else return number1;
+		} else if (dblnumber2 == Double.POSITIVE_INFINITY || 
+			dblnumber2 == Double.NEGATIVE_INFINITY) 
+			return number2;
+			
+		return innerSum(number1, number2);
+	}
+	
+	/**
+	 * Returns the sum without pre and post compilations to {@code double} type
+	 *
+	 * @param number1 the addendum1
+	 * @param number2 the addendum2
+	 * @return sum
+	 */
+	public static SlicedDouble innerSum(SlicedDouble number1, SlicedDouble number2) {
+		if (number1.isNaN())
+			return number1;
+		else if (number2.isNaN())
+			return number2;
+		
+		if (number1.isZero()) {
+			if (number2.isZero() && number2.isNegative()) return number2.withSign("");
+			else return number2;
+		} else if (number2.isZero()) return number1;
+		
+		if (!number1.isNegative() && number2.isNegative()) {
+			return innerSub(number1, number2.withSign(""));
+		}
+		if (number1.isNegative() && !number2.isNegative()) {
+			return innerSub(number2, number1.withSign(""));
+		} 
+		
+		return addAligned(number1, number2, false, number1.isNegative());
+	}
+	
+	/**
+	 * Auxiliary method that adds or substracts the absolute values of
+	 * numbers and rounds the result to the 64 bits once.
+	 *
+	 * <p>Both mantissas are left aligned, and the mantissa of number with
+	 * the less absolute value is shifted right to the difference of exponents.
+	 * The digits that are shifted out are holding in the second long,
+	 * and if some of digits are shifted even out of it, there is a sticky tag.
+	 * When it is a substraction, the sticky tag is taking one more from the
+	 * lowest digit, so the result is rounded down before the final rounding.
+	 * The result is rounded to odd: if any of digits after the 64 leading ones
+	 * is not zero, the lowest of them is set to '1'. So the half to even rounding
+	 * to {@code double} in {@code SlicedDouble.getIEEE754()} never meets the false half.
+	 *
+	 * <p>The negative is the sign of result if the absolute value of number1 is
+	 * not less than of number2. Otherwise in substraction the sign is opposite.
+	 */
+	private static SlicedDouble addAligned(SlicedDouble number1, SlicedDouble number2, boolean substraction,
+		boolean negative) {
+		long raw1 = number1.getLongRaw() << (64 + ~number1.getRawLength() + 1);
+		long raw2 = number2.getLongRaw() << (64 + ~number2.getRawLength() + 1);
+		int exp1 = number1.getExponent(), exp2 = number2.getExponent();
+		
+		// the first number must have the greater absolute value
+		if (exp2 > exp1 || (exp2 == exp1 && (raw2 ^ 0x8000000000000000l) > (raw1 ^ 0x8000000000000000l))) {
+			long raw = raw1; raw1 = raw2; raw2 = raw;
+			int exp = exp1; exp1 = exp2; exp2 = exp;
+			if (substraction) negative = !negative;
+		}
+		
+		// aligning of second number with its high and low parts and the sticky tag
+		int shift = exp1 + ~exp2 + 1;
+		long high, low;
+		boolean sticky = false;
+		
+		if (shift == 0) {
+			high = raw2;
+			low = 0l;
+		} else if (shift < 64) {
+			high = raw2 >>> shift;
+			low = raw2 << (64 + ~shift + 1);
+		} else if (shift == 64) {
+			high = 0l;
+			low = raw2;
+		} else if (shift < 128) {
+			high = 0l;
+			low = raw2 >>> (shift + 0xffffffc0);
+			sticky = (raw2 << (128 + ~shift + 1)) != 0;
+		} else {
+			high = 0l;
+			low = 0l;
+			sticky = true;
+		}
+		
+		long resulthigh, resultlow;
+		int resultexp = exp1;
+		
+		if (!substraction) {
+			resulthigh = raw1 + high;
+			resultlow = low;
+			
+			// the carry is turning to the new leading '1'
+			if (getCarry(raw1, high, resulthigh) == 1l) {
+				resultlow = (resulthigh << 63) | (resultlow >>> 1);
+				resulthigh = (resulthigh >>> 1) | 0x8000000000000000l;
+				resultexp++;
+			}
+		} else {
+			resultlow = ~low + 1;
+			resulthigh = raw1 + ~high;
+			if (low == 0) resulthigh++;
+			
+			if (sticky) {
+				if (resultlow == 0) resulthigh += 0xffffffffffffffffl;
+				resultlow += 0xffffffffffffffffl;
+			}
+			
+			// the zero keeps the sign of minuend
+			if (resulthigh == 0 && resultlow == 0) return new SlicedDouble(0l, 0, negative);
+			
+			// the leading digits can vanish only if the shift is 0 or 1,
+			// and then there is no sticky tag
+			if (resulthigh == 0) {
+				resulthigh = resultlow;
+				resultlow = 0l;
+				resultexp += 0xffffffc0;
+			}
+			
+			int leadzeros = Long.numberOfLeadingZeros(resulthigh);
+			if (leadzeros > 0) {
+				resulthigh = (resulthigh << leadzeros) | (resultlow >>> (64 + ~leadzeros + 1));
+				resultlow <<= leadzeros;
+				resultexp += ~leadzeros + 1;
+			}
+		}
+		
+		// the lowest digit of inexact result is turned to '1'
+		if (resultlow != 0 || sticky) resulthigh |= 1l;
+		
+		return new SlicedDouble(resulthigh, resultexp, negative);
+	}
+	
+	/**
+	 * The methods of {@code MiniMath} with {@code double} arguments, that
+	 * return the primitive {@code double} values.
+	 *
+	 * <p>The arguments are recognized by their bits before anything else.
+	 * The results of the simple cases of integers and powers of two are
+	 * computed without any allocation. The special values of arguments
+	 * (Double.NaN, infinities and zeros) are taken from the pool of
+	 * {@code SlicedDouble.valueOf()} without slicing and are going to the
+	 * methods with {@code SlicedDouble} arguments, so there is only one
+	 * place of rules for them. Only the rest of arguments are sliced.
+	 *
+	 * <p>The methods of {@code MiniMath} with the same names and
+	 * {@code double} arguments are returning the same results in the
+	 * {@code Double} objects.
+	 */
+	public static class Primitive {
+		
+		private Primitive() {
+		}
+		
+		/**
+		 * Returns the value of the first argument raised to the power of the
+		 * second argument. The information about special cases is the same
+		 * as in {@code java.lang.Math} class method.
+		 *
+		 * @param   number(n)  the base.
+		 * @param   power(p)   the exponent.
+		 * @return  the value {@code n}<sup>{@code p}</sup>.
+		 */
+		public static double pow(double number, double power) {
+			long bits = Double.doubleToRawLongBits(number), powerbits = Double.doubleToRawLongBits(power);
+			
+			if (powerbits == 0x3ff0000000000000l) return number;
+			else if (bits == 0x3ff0000000000000l && (powerbits & 0x7ff0000000000000l) != 0x7ff0000000000000l) 
+				return 1.0;
+			
+			// the special values are taken from the pool without slicing
+			return MiniMath.pow(SlicedDouble.valueOf(number), SlicedDouble.valueOf(power)).getIEEE754();
+		}
+		
+		/**
+		 * Returns the product of arguments.
+		 *
+		 * @param number1 first multiplyer
+		 * @param number2 second multiplyer
+		 *
+		 * @return {@code number1*number2}
+		 */
+		public static double mult(double number1, double number2) {
+			long bits1 = Double.doubleToRawLongBits(number1), bits2 = Double.doubleToRawLongBits(number2);
+			
+			// the special values are taken from the pool without slicing
+			if (isSpecial(bits1) || isSpecial(bits2))
+				return MiniMath.mult(SlicedDouble.valueOf(number1), SlicedDouble.valueOf(number2)).getIEEE754();
+			
+			long int1 = getSmallInteger(number1), int2;
+			
+			if (int1 != 0 && (int2 = getSmallInteger(number2)) != 0) {
+				long result = multSmallIntegers(int1, int2);
+				if (result != 0) return (double)result;
+			}
+			
+			long resultbits = 0l;
+			
+			if ((bits2 & 0x000fffffffffffffl) == 0) resultbits = getScaledBits(bits1, bits2, false);
+			else if ((bits1 & 0x000fffffffffffffl) == 0) resultbits = getScaledBits(bits2, bits1, false);
+			
+			if (resultbits != 0) return Double.longBitsToDouble(resultbits);
+			
+			return MiniMath.mult(SlicedDouble.valueOf(number1), SlicedDouble.valueOf(number2)).getIEEE754();
+		}
+		
+		/**
+		 * Returns the value of {@code number1*number2 + addend} that is rounded
+		 * to {@code double} only once. The result is the same as of
+		 * {@code java.lang.Math.fma()}, including the special cases.
+		 *
+		 * @param number1	the first multiplyer
+		 * @param number2	the second multiplyer
+		 * @param addend	the addend
+		 *
+		 * @return {@code number1*number2 + addend}
+		 */
+		public static double fma(double number1, double number2, double addend) {
+			if (Double.isNaN(number1) || Double.isNaN(number2) || Double.isNaN(addend)) return Double.NaN;
+			
+			SlicedDouble factor1 = SlicedDouble.valueOf(number1), factor2 = SlicedDouble.valueOf(number2),
+				summand = SlicedDouble.valueOf(addend);
+			
+			SlicedDouble check = fmaPreCheck(factor1, factor2, summand);
+			if (check != null) return check.getIEEE754();
+			
+			long[] registers = new long[5];
+			fmaRegisters(factor1, factor2, summand, registers);
+			
+			return getRoundedDouble(registers);
 		}
 		
-		String negativesign = "";
-		String minraw, subraw;
-		int minexp, subexp;
+		/**
+		 * Returns result of the divison.
+		 *
+		 * <p><b>Caution:</b>If the divisor is '0' there is no exception,
+		 * instead you will get an Infinity, positive or negative.
+		 *
+		 * @param dividend	the dividend number
+		 * @param divisor	the divisor number
+		 * @return quotient
+		 */
+		public static double division(double dividend, double divisor) {
+			long bits = Double.doubleToRawLongBits(dividend), divisorbits = Double.doubleToRawLongBits(divisor);
+			
+			if (isSpecial(bits) || isSpecial(divisorbits)) 
+				return MiniMath.division(SlicedDouble.valueOf(dividend), SlicedDouble.valueOf(divisor)).getIEEE754();
+			
+			if ((divisorbits & 0x000fffffffffffffl) == 0) {
+				long resultbits = getScaledBits(bits, divisorbits, true);
+				if (resultbits != 0) return Double.longBitsToDouble(resultbits);
+			}
+			
+			return MiniMath.division(SlicedDouble.valueOf(dividend), SlicedDouble.valueOf(divisor)).getIEEE754();
+		}
+		
+		/**
+		 * Returns result of the divison that is computed with the chosen engine.
+		 *
+		 * <p>The enginesign parameter is the same as in
+		 * {@code innerDiv(dividend, divisor, negativesign, featuresign, enginesign)}.
+		 *
+		 * <p><b>Caution:</b>If the divisor is '0' there is no exception,
+		 * instead you will get an Infinity, positive or negative.
+		 *
+		 * @param dividend		the dividend number
+		 * @param divisor		the divisor number
+		 * @param enginesign	the engine sign
+		 * @return quotient
+		 */
+		public static double division(double dividend, double divisor, int enginesign) {
+			long bits = Double.doubleToRawLongBits(dividend), divisorbits = Double.doubleToRawLongBits(divisor);
+			
+			if (isSpecial(bits) || isSpecial(divisorbits)) 
+				return MiniMath.division(SlicedDouble.valueOf(dividend), SlicedDouble.valueOf(divisor)).getIEEE754();
+			
+			return MiniMath.division(SlicedDouble.valueOf(dividend), SlicedDouble.valueOf(divisor), enginesign)
+				.getIEEE754();
+		}
+		
+		/**
+		 * Returns integer result of the divison
+		 *
+		 * <p><b>Caution:</b>If the divisor is '0' there is no exception,
+		 * instead you will get an Infinity, positive or negative.
+		 *
+		 * @param dividend	the dividend number
+		 * @param divisor	the divisor number
+		 * @return integer quotient
+		 */
+		public static double div(double dividend, double divisor) {
+			long bits = Double.doubleToRawLongBits(dividend), divisorbits = Double.doubleToRawLongBits(divisor);
+			
+			if (isSpecial(bits) || isSpecial(divisorbits)) 
+				return MiniMath.div(SlicedDouble.valueOf(dividend), SlicedDouble.valueOf(divisor)).getIEEE754();
+			
+			long int1 = getSmallInteger(dividend), int2;
+			
+			if (int1 != 0 && (int2 = getSmallInteger(divisor)) != 0) {
+				long result = divideSmallIntegers(int1, int2, false);
+				if (result == 0 && (int1 ^ int2) < 0) return -0.0;
+				else return (double)result;
+			}
+			
+			return MiniMath.div(SlicedDouble.valueOf(dividend), SlicedDouble.valueOf(divisor)).getIEEE754();
+		}
+		
+		/**
+		 * Returns the largest (closest to positive infinity) integer value
+		 * that is less than or equal to the algebraic quotient
+		 *
+		 * <p><b>Caution:</b>If the divisor is '0' there is no exception,
+		 * instead you will get an Infinity, positive or negative. Because we
+		 * are using double arithmetic, not integer. And if divisor is also 0
+		 * the result would be Double.NaN
+		 *
+		 * @param dividend	the dividend number
+		 * @param divisor	the divisor number
+		 * @return the largest (closest to positive infinity) integer value
+		 * 			that is less than or equal to the algebraic quotient
+		 */
+		public static double floorDiv(double dividend, double divisor) {
+			long bits = Double.doubleToRawLongBits(dividend), divisorbits = Double.doubleToRawLongBits(divisor);
+			
+			if (isSpecial(bits) || isSpecial(divisorbits)) 
+				return MiniMath.floorDiv(SlicedDouble.valueOf(dividend), SlicedDouble.valueOf(divisor)).getIEEE754();
+			
+			long int1 = getSmallInteger(dividend), int2;
+			
+			if (int1 != 0 && (int2 = getSmallInteger(divisor)) != 0)
+				return (double)divideSmallIntegers(int1, int2, true);
+			
+			return MiniMath.floorDiv(SlicedDouble.valueOf(dividend), SlicedDouble.valueOf(divisor)).getIEEE754();
+		}
+		
+		/**
+		 * Returns the remainder of division that has the sign of dividend.
+		 *
+		 * <p><b>Caution:</b>If the divisor is '0' there is no exception,
+		 * instead if the dividend is also 0 you will get Double.NaN as the result.
+		 * Or if dividend is not 0, you will get 0.0 as a result.
+		 *
+		 * @param dividend	the dividend number
+		 * @param divisor	the divisor number
+		 * @return division remainder
+		 */
+		public static double divisionRemainder(double dividend, double divisor) {
+			long bits = Double.doubleToRawLongBits(dividend), divisorbits = Double.doubleToRawLongBits(divisor);
+			long abs = bits & 0x7fffffffffffffffl, divisorabs = divisorbits & 0x7fffffffffffffffl;
+			
+			if (abs >= 0x7ff0000000000000l || divisorabs > 0x7ff0000000000000l || (abs == 0 && divisorabs == 0))
+				return Double.NaN;
+			else if (abs == 0 || divisorabs == 0)
+				return 0.0;
+			else if (divisorabs == 0x7ff0000000000000l)
+				return dividend;
+			
+			return MiniMath.divisionRemainder(SlicedDouble.valueOf(dividend), SlicedDouble.valueOf(divisor)).getIEEE754();
+		}
+		
+		/**
+		 * Returns the floor modulus of inputs, that has the sign of divisor.
+		 * The special cases are the same as in
+		 * {@code MiniMath.floorMod(double, double)}.
+		 *
+		 * @param dividend	the dividend number
+		 * @param divisor	the divisor number
+		 * @return the floor modulus
+		 */
+		public static double floorMod(double dividend, double divisor) {
+			long bits = Double.doubleToRawLongBits(dividend), divisorbits = Double.doubleToRawLongBits(divisor);
+			long abs = bits & 0x7fffffffffffffffl, divisorabs = divisorbits & 0x7fffffffffffffffl;
+			
+			if (abs >= 0x7ff0000000000000l || divisorabs > 0x7ff0000000000000l || (abs == 0 && divisorabs == 0))
+				return Double.NaN;
+			else if (abs == 0 || divisorabs == 0 || divisorabs == 0x7ff0000000000000l)
+				return dividend;
+			
+			return MiniMath.floorMod(SlicedDouble.valueOf(dividend), SlicedDouble.valueOf(divisor)).getIEEE754();
+		}
 		
-		if (subtrahend.getExp() > minuend.getExp()) {
-			minraw = subtrahend.getBinaryRaw(); subraw = minuend.getBinaryRaw();
-			minexp = subtrahend.getExp(); subexp = minuend.getExp();
-			if (subtrahend.isNegative()) negativesign = "";
-			else negativesign = "-";
-		} else {
-			minraw = minuend.getBinaryRaw(); subraw = subtrahend.getBinaryRaw();
-			minexp = minuend.getExp(); subexp = subtrahend.getExp();
-			if (minuend.isNegative()) negativesign = "-";
-			else negativesign = "";
+		/**
+		 * Returns absolute value of giving number.
+		 *
+		 * @param number the number
+		 * @return the absolute value of a giving number
+		 */
+		public static double abs(double number) {
+			return Double.longBitsToDouble(Double.doubleToRawLongBits(number) & 0x7fffffffffffffffl);
 		}
 		
-		String prezeros = "";
-		int expdiff = minexp + ~subexp + 1;
-		for (int i = 0; i < expdiff && i < 64; i++) prezeros += '0';
-		subraw = prezeros + subraw;
-		for (int i = subraw.length(); i < minraw.length(); i++) subraw += '0';
+		/**
+		 * Returns the largest (closest to positive infinity) number that is 
+		 * less than or equal to the argument and is equal to a mathematical integer.
+		 *
+		 * <p>It works directly with the bits of {@code double} number: the
+		 * digits of fractional part are masked, and for negative numbers
+		 * the unit is added to the mantissa before.
+		 *
+		 * @param number the number
+		 * @return the largest (closest to positive infinity) number that is 
+		 * 			less than or equal to the argument and is equal to a mathematical integer.
+		 */
+		public static double floor(double number) {		
+			long bits = Double.doubleToRawLongBits(number);
+			int exp = ((int)(bits >>> 52) & 0x7ff) + 0xfffffc01;
+			
+			// there is no fractional part, or it is NaN or an Infinity
+			if (exp > 51) return number;
+			
+			if (exp < 0) {
+				if ((bits & 0x7fffffffffffffffl) == 0) return number;
+				else if (bits < 0) return -1.0;
+				else return 0.0;
+			}
+			
+			long mask = 0x000fffffffffffffl >>> exp;
+			if ((bits & mask) == 0) return number;
+			
+			// the carry of adding goes to the exponent if it is needed
+			if (bits < 0) bits += 0x0010000000000000l >>> exp;
+			
+			return Double.longBitsToDouble(bits & ~mask);
+		}
 		
-		int len;
-		if (subraw.length() > 64) { subraw = subraw.substring(0, 64); len = 64; }
-		else len = subraw.length();
-		for (int i = minraw.length(); i < len; i++) minraw += '0';
+		/**
+		 * Returns the smallest (closest to negative infinity) number that is greater
+		 * than or equal to the argument and is equal to a mathematical integer
+		 *
+		 * <p>It works directly with the bits of {@code double} number: the
+		 * digits of fractional part are masked, and for positive numbers
+		 * the unit is added to the mantissa before.
+		 *
+		 * @param number the number
+		 * @return the smallest (closest to negative infinity) number that is greater 
+		 *			than or equal to the argument and is equal to a mathematical integer
+		 */
+		public static double ceil(double number) {
+			long bits = Double.doubleToRawLongBits(number);
+			int exp = ((int)(bits >>> 52) & 0x7ff) + 0xfffffc01;
+			
+			// there is no fractional part, or it is NaN or an Infinity
+			if (exp > 51) return number;
+			
+			if (exp < 0) {
+				if ((bits & 0x7fffffffffffffffl) == 0) return number;
+				else if (bits < 0) return -0.0;
+				else return 1.0;
+			}
+			
+			long mask = 0x000fffffffffffffl >>> exp;
+			if ((bits & mask) == 0) return number;
+			
+			// the carry of adding goes to the exponent if it is needed
+			if (bits > 0) bits += 0x0010000000000000l >>> exp;
+			
+			return Double.longBitsToDouble(bits & ~mask);
+		}
 		
-		long minlong = Long.parseUnsignedLong(minraw, 2);
-		long sublong = Long.parseUnsignedLong(subraw, 2);
+		/**
+		 * Returns the number that is equal to a mathematical integer and is
+		 * closest to the argument. If there are two of them, the even one is
+		 * returned. The information about special cases is the same as in
+		 * {@code java.lang.Math} class method.
+		 *
+		 * @param number the number
+		 * @return the closest to the argument number that is equal to a mathematical integer
+		 */
+		public static double rint(double number) {
+			long bits = Double.doubleToRawLongBits(number);
+			int exp = ((int)(bits >>> 52) & 0x7ff) + 0xfffffc01;
+			
+			// there is no fractional part, or it is NaN or an Infinity
+			if (exp > 51) return number;
+			
+			if (exp < 0) {
+				// only the numbers over 0.5 are closer to 1 than to 0
+				if (exp < 0xffffffff || (bits & 0x000fffffffffffffl) == 0) 
+					return Double.longBitsToDouble(bits & 0x8000000000000000l);
+				else 
+					return Double.longBitsToDouble((bits & 0x8000000000000000l) | 0x3ff0000000000000l);
+			}
+			
+			long mask = 0x000fffffffffffffl >>> exp, fract = bits & mask;
+			if (fract == 0) return number;
+			
+			long unit = 0x0010000000000000l >>> exp, half = unit >>> 1;
+			if (fract > half || (fract == half && (bits & unit) != 0)) bits += unit;
+			
+			return Double.longBitsToDouble(bits & ~mask);
+		}
 		
-		long residual = minlong + ~sublong + 1;
-
-		// we must to reverse long if it's negative and if subtrahend is less than 64 chars
-		if (residual < 0) {
-			if (subraw.indexOf('1') == 0) residual = ~residual + 1;
-			// and also if (minexp == subexp) we need to change sign of result
-			if (minexp == subexp) {
-				if (negativesign.isEmpty()) negativesign = "-";
-				else negativesign = "";
+		/**
+		 * Returns value of fractional part of a giving number that is closest to zero
+		 *
+		 * <p>It works directly with the bits of {@code double} number: the
+		 * digits of integer part are masked, and the rest is normalized.
+		 *
+		 * @param number the number
+		 * @return value of fractional part of a giving number that is closest to zero
+		 */
+		public static double fraction(double number) {
+			long bits = Double.doubleToRawLongBits(number);
+			int exp = ((int)(bits >>> 52) & 0x7ff) + 0xfffffc01;
+			
+			if (exp == 0x400) {
+				if ((bits & 0x000fffffffffffffl) != 0) return number;
+				else return Double.longBitsToDouble(bits & 0x8000000000000000l);
+			} else if (exp > 51) {
+				return Double.longBitsToDouble(bits & 0x8000000000000000l);
+			} else if (exp < 0) {
+				return number;
 			}
+			
+			long fract = bits & (0x000fffffffffffffl >>> exp);
+			if (fract == 0) return Double.longBitsToDouble(bits & 0x8000000000000000l);
+			
+			// the leading '1' of fraction is moving to the place of hidden '1'
+			int shift = Long.numberOfLeadingZeros(fract) + 0xfffffff5;
+			
+			return Double.longBitsToDouble((bits & 0x8000000000000000l) | 
+				((long)(exp + ~shift + 1024) << 52) | ((fract << shift) & 0x000fffffffffffffl));
 		}
 		
-		String residualstr = Long.toBinaryString(residual);
-		int resultexp = getSubstractionExponent(residualstr, minexp, subexp, minraw);
+		/**
+		 * Return result of substracion
+		 *
+		 * @param minuend 		the minuend
+		 * @param subtrahend 	the subtrahend
+		 * @return the residual
+		 */
+		public static double substraction(double minuend, double subtrahend) {
+			long bits1 = Double.doubleToRawLongBits(minuend), bits2 = Double.doubleToRawLongBits(subtrahend);
+			long abs1 = bits1 & 0x7fffffffffffffffl, abs2 = bits2 & 0x7fffffffffffffffl;
+			
+			if (abs1 > 0x7ff0000000000000l || abs2 > 0x7ff0000000000000l) {
+				return Double.NaN;
+			} else if (abs1 == 0x7ff0000000000000l) {
+				if (bits1 == bits2) return Double.NaN;
+				else return minuend;
+			} else if (abs2 == 0x7ff0000000000000l || abs1 == 0) {
+				if (abs2 == 0) return minuend;
+				else return Double.longBitsToDouble(bits2 ^ 0x8000000000000000l);
+			} else if (abs2 == 0) {
+				return minuend;
+			}
+			
+			long int1 = getSmallInteger(minuend), int2 = getSmallInteger(subtrahend);
+			
+			// the residual of small integers is exact, if it is not too large too,
+			// and the zero residual is leaving to general way for its sign
+			if (int1 != 0 && int2 != 0) {
+				long result = int1 + ~int2 + 1;
+				if (result != 0 && result < 0x0020000000000000l && result > 0xffe0000000000000l) 
+					return (double)result;
+			}
+			
+			return MiniMath.substraction(SlicedDouble.valueOf(minuend), SlicedDouble.valueOf(subtrahend)).getIEEE754();
+		}
 		
-		return new SlicedDouble(residualstr, resultexp, negativesign);
-	}
-	
-	/**
-	 * Auxiliary method to get residual exponent
-	 */
-	private static int getSubstractionExponent(String residualstr, int minexp, int subexp, String minraw) {
-		if (residualstr.indexOf('1') == 0xffffffff) return 0;
-		if (minraw.indexOf('1') == 0xffffffff) return subexp;
+		/**
+		 * Returns the sum
+		 *
+		 * @param number1 the addendum1
+		 * @param number2 the addendum2
+		 * @return sum
+		 */
+		public static double sum(double number1, double number2) {
+			long bits1 = Double.doubleToRawLongBits(number1), bits2 = Double.doubleToRawLongBits(number2);
+			long abs1 = bits1 & 0x7fffffffffffffffl, abs2 = bits2 & 0x7fffffffffffffffl;
+			
+			if (abs1 > 0x7ff0000000000000l || abs2 > 0x7ff0000000000000l) {
+				return Double.NaN;
+			} else if (abs1 == 0x7ff0000000000000l) {
+				if (abs2 == 0x7ff0000000000000l && bits1 != bits2) return Double.NaN;
+				else return number1;
+			} else if (abs2 == 0x7ff0000000000000l) {
+				return number2;
+			} else if (abs1 == 0) {
+				if (abs2 == 0) return 0.0;
+				else return number2;
+			} else if (abs2 == 0) {
+				return number1;
+			}
+			
+			long int1 = getSmallInteger(number1), int2 = getSmallInteger(number2);
+			
+			// the sum of small integers is exact, if it is not too large too
+			if (int1 != 0 && int2 != 0) {
+				long result = int1 + int2;
+				if (result < 0x0020000000000000l && result > 0xffe0000000000000l) return (double)result;
+			}
+			
+			return MiniMath.sum(SlicedDouble.valueOf(number1), SlicedDouble.valueOf(number2)).getIEEE754();
+		}
 		
-		return minexp + ~(minraw.length() + ~residualstr.length() + 1) + 1;
-	}
-	
-	/**
-	 * Returns the sum
-	 *
-	 * @param number1 the addendum1
-	 * @param number2 the addendum2
-	 * @return sum
-	 */
-	public static Double sum(double number1, double number2) {
-		return sum(new SlicedDouble(number1), new SlicedDouble(number2)).getIEEE754();
+		/**
+		 * Auxiliary method that returns true if the number given by its bits is
+		 * Double.NaN, an Infinity or a zero.
+		 */
+		private static boolean isSpecial(long bits) {
+			return (bits & 0x7fffffffffffffffl) == 0 || (bits & 0x7ff0000000000000l) == 0x7ff0000000000000l;
+		}
 	}
 	
 	/**
-	 * Returns the sum
+	 * The accumulator of exact sum of {@code double} numbers.
 	 *
-	 * <p><b>Important.</b>
-	 * <p>This method works directly with {@code SlicedDouble} type of inputs.
-	 * If the arguments are not holding compilated {@code double} numbers
-	 * them will be computed, so if you do not wish to lose advantages of
-	 * using {@code SlicedDouble} type, you should not use this method.
-	 * Instead you may use {@code innerSum()}:
+	 * <p>The sum is held as a fixed point number in the array of long limbs,
+	 * where the lowest digit is 2^-1074, so it covers all the range of
+	 * {@code double} and there are 64 more digits for carries. Negative
+	 * numbers are held in two's complement form. Each adding is a shift of
+	 * mantissa to the respective limbs and carry propagation, so there is no
+	 * rounding until the final sum is requested, and then it is rounded only
+	 * once to the nearest {@code double}.
 	 *
-	 * @param number1 the addendum1
-	 * @param number2 the addendum2
-	 * @return sum
+	 * <p>Partial sums can be computed separately (for example in different
+	 * threads) and then merged. The accumulator itself is not synchronized.
 	 */
-	public static SlicedDouble sum(SlicedDouble number1, SlicedDouble number2) {
-		double dblnumber1 = number1.getDouble(), dblnumber2 = number2.getDouble();
-		
-		if (Double.isNaN(dblnumber1) || Double.isNaN(dblnumber2))
-			return new SlicedDouble(Double.NaN);
-		if (dblnumber1 == Double.POSITIVE_INFINITY) {
-			if (dblnumber2 == Double.NEGATIVE_INFINITY) return new SlicedDouble(Double.NaN);
-			else return number1;
-		} else if (dblnumber1 == Double.NEGATIVE_INFINITY) {
-			if (dblnumber2 == Double.POSITIVE_INFINITY) return new SlicedDouble(Double.NaN);
-			else return number1;
-		} else if (dblnumber2 == Double.POSITIVE_INFINITY || 
-			dblnumber2 == Double.NEGATIVE_INFINITY) 
-			return number2;
+	public static class ExactSum {
+		
+		/**
+		 * The number of limbs: 2098 digits of {@code double} range
+		 * and 64 digits for carries
+		 */
+		private static final int LIMBS = 34;
+		
+		/**
+		 * The limbs from the lowest
+		 */
+		private final long[] limbs = new long[LIMBS];
+		
+		/**
+		 * The tags of special values that were added
+		 */
+		private boolean nan, positiveinfinity, negativeinfinity;
+		
+		/**
+		 * The tags for the sign of zero sum: whether there were some numbers
+		 * and whether there were numbers other than -0.0
+		 */
+		private boolean notempty, notnegativezero;
+		
+		/**
+		 * Constructs the accumulator with zero sum.
+		 */
+		public ExactSum() {}
+		
+		/**
+		 * Adds the number to the sum.
+		 *
+		 * @param number	the number
+		 */
+		public void add(double number) {
+			long bits = Double.doubleToRawLongBits(number);
+			int exponent = (int)(bits >>> 52) & 0x7ff;
+			long mantissa = bits & 0x000fffffffffffffl;
 			
-		return innerSum(number1, number2);
-	}
-	
-	/**
-	 * Returns the sum without pre and post compilations to {@code double} type
-	 *
-	 * @param number1 the addendum1
-	 * @param number2 the addendum2
-	 * @return sum
-	 */
-	public static SlicedDouble innerSum(SlicedDouble number1, SlicedDouble number2) {
-		if (number1.getDouble() != null && Double.isNaN(number1.getDouble()))
-			return number1;
-		else if (number2.getDouble() != null && Double.isNaN(number2.getDouble()))
-			return number2;
-		
-		if (number1.getBinaryRaw().length() == 0) {
-			if (number2.getBinaryRaw().length() == 0 && number2.isNegative()) {
-				SlicedDouble num2clone = number2.clone();
-				number2.setSign("");
-				return number2;
-			}	
-			else return number2;
-		} else if (number2.getBinaryRaw().length() == 0) return number1;
-		
-		if (!number1.isNegative() && number2.isNegative()) {
-			SlicedDouble subtrahend = number2.clone();
-			subtrahend.setSign("");
-			return innerSub(number1, subtrahend);
+			notempty = true;
+			if (bits != 0x8000000000000000l) notnegativezero = true;
+			
+			if (exponent == 0x7ff) {
+				if (mantissa != 0) nan = true;
+				else if (bits < 0) negativeinfinity = true;
+				else positiveinfinity = true;
+				return;
+			}
+			
+			// the position of the lowest digit of mantissa
+			int position = 0;
+			if (exponent > 0) {
+				mantissa |= 0x0010000000000000l;
+				position = exponent + 0xffffffff;
+			}
+			
+			if (mantissa == 0) return;
+			
+			int index = position >>> 6, shift = position & 0x3f;
+			long low = mantissa << shift, high = 0l;
+			if (shift > 0) high = mantissa >>> (64 + ~shift + 1);
+			
+			if (bits < 0) substractLimbs(index, low, high);
+			else addLimbs(index, low, high);
 		}
-		if (number1.isNegative() && !number2.isNegative()) {
-			SlicedDouble subtrahend = number1.clone();
-			subtrahend.setSign("");
-			return innerSub(number2, subtrahend);
-		} 
 		
-		String negativesign;
-		if (number1.isNegative()) negativesign = "-";
-		else negativesign = "";
-		
-		String num1raw, num2raw;
-		int num1exp, num2exp;
-		
-		if (number2.getExp() > number1.getExp()) {
-			num1raw = number2.getBinaryRaw(); num2raw = number1.getBinaryRaw();
-			num1exp = number2.getExp(); num2exp = number1.getExp();
-		} else {
-			num1raw = number1.getBinaryRaw(); num2raw = number2.getBinaryRaw();
-			num1exp = number1.getExp(); num2exp = number2.getExp();
+		/**
+		 * Adds all the numbers to the sum.
+		 *
+		 * @param numbers	the numbers
+		 */
+		public void add(double[] numbers) {
+			for (int i = 0; i < numbers.length; i++) add(numbers[i]);
 		}
 		
-		String prezeros = "";
-		int expdiff = num1exp + ~num2exp + 1;
-		for (int i = 0; i < expdiff && i < 64; i++) prezeros += '0';
-		num2raw = prezeros + num2raw;
-		for (int i = num2raw.length(); i < num1raw.length(); i++) num2raw += '0';
-		
-		int len;
-		if (num2raw.length() > 64) { num2raw = num2raw.substring(0, 64); len = 64; }
-		else len = num2raw.length();
-		for (int i = num1raw.length(); i < len; i++) num1raw += '0';
-
-		long num1long = Long.parseUnsignedLong(num1raw, 2);
-		long num2long = Long.parseUnsignedLong(num2raw, 2);
+		/**
+		 * Adds the other sum to this one. The other sum stays the same.
+		 *
+		 * @param other	the other sum
+		 */
+		public void merge(ExactSum other) {
+			long carry = 0l, sum;
+			
+			for (int i = 0; i < LIMBS; i++) {
+				sum = limbs[i] + other.limbs[i];
+				long next = getCarry(limbs[i], other.limbs[i], sum);
+				limbs[i] = sum + carry;
+				next |= getCarry(sum, carry, limbs[i]);
+				carry = next;
+			}
+			
+			nan |= other.nan;
+			positiveinfinity |= other.positiveinfinity;
+			negativeinfinity |= other.negativeinfinity;
+			notempty |= other.notempty;
+			notnegativezero |= other.notnegativezero;
+		}
 		
-		long sum = num1long + num2long;
+		/**
+		 * Returns the sum that is rounded to the nearest {@code double}.
+		 * The special cases are the same as for summing of numbers one
+		 * by one.
+		 *
+		 * @return the sum
+		 */
+		public Double getSum() {
+			if (nan || (positiveinfinity && negativeinfinity)) return Double.NaN;
+			else if (positiveinfinity) return Double.POSITIVE_INFINITY;
+			else if (negativeinfinity) return Double.NEGATIVE_INFINITY;
+			
+			long[] magnitude = new long[LIMBS];
+			boolean negative = limbs[LIMBS + 0xffffffff] < 0;
+			
+			// the absolute value of negative sum is its two's complement
+			long carry = 1l;
+			for (int i = 0; i < LIMBS; i++) {
+				if (negative) {
+					magnitude[i] = ~limbs[i] + carry;
+					if (magnitude[i] != 0) carry = 0l;
+				} else {
+					magnitude[i] = limbs[i];
+				}
+			}
+			
+			int top = LIMBS + 0xffffffff;
+			while (top > 0xffffffff && magnitude[top] == 0) top += 0xffffffff;
+			
+			if (top < 0) {
+				if (notempty && !notnegativezero) return -0.0;
+				else return 0.0;
+			}
+			
+			// the 128 leading digits and the sticky tag of the rest
+			int leadzeros = Long.numberOfLeadingZeros(magnitude[top]);
+			long[] registers = new long[5];
+			
+			registers[0] = getLimbDigits(magnitude, top, leadzeros);
+			registers[1] = getLimbDigits(magnitude, top + 0xffffffff, leadzeros);
+			registers[2] = (top << 6) + 63 + ~leadzeros + 1 + 0xfffffbce;
+			
+			boolean sticky = top > 1 && (magnitude[top + 0xfffffffe] << leadzeros) != 0;
+			for (int i = top + 0xfffffffd; i > 0xffffffff && !sticky; i += 0xffffffff) sticky = magnitude[i] != 0;
+			if (sticky) registers[3] = 1l;
+			
+			if (negative) registers[4] = 1l;
+			
+			return getRoundedDouble(registers);
+		}
 		
-		String sumstr = Long.toBinaryString(sum);
+		/**
+		 * Auxiliary method that adds 128-bit number (the low and the high parts)
+		 * to the limbs from the giving one.
+		 */
+		private void addLimbs(int index, long low, long high) {
+			long sum = limbs[index] + low;
+			long carry = getCarry(limbs[index], low, sum);
+			limbs[index] = sum;
+			
+			sum = limbs[index + 1] + high;
+			long next = getCarry(limbs[index + 1], high, sum);
+			limbs[index + 1] = sum + carry;
+			carry = next | getCarry(sum, carry, limbs[index + 1]);
+			
+			for (int i = index + 2; carry == 1l && i < LIMBS; i++) {
+				limbs[i]++;
+				if (limbs[i] != 0) carry = 0l;
+			}
+		}
 		
-		if (sumstr.length() > num1raw.length()) num1exp++;
-		// if there is overflow we need to handle it correctly
-		else if (sumstr.length() < num1raw.length()) {
-			prezeros = "";
-			for (int i = sumstr.length(); i < num1raw.length(); i++) prezeros += '0';
-			sumstr = '1' + prezeros + sumstr;
-			if (sumstr.length() > 64 && sumstr.charAt(64) == '1') {
-				sumstr = sumstr.substring(0, 64);
-				sum = Long.parseUnsignedLong(sumstr, 2);
-				sum++;
-				sumstr = Long.toBinaryString(sum);
+		/**
+		 * Auxiliary method that substracts 128-bit number (the low and the high parts)
+		 * from the limbs from the giving one.
+		 */
+		private void substractLimbs(int index, long low, long high) {
+			long borrow = 0l;
+			
+			if ((limbs[index] ^ 0x8000000000000000l) < (low ^ 0x8000000000000000l)) borrow = 1l;
+			limbs[index] += ~low + 1;
+			
+			long minuend = limbs[index + 1];
+			limbs[index + 1] += ~high + 1;
+			long next = 0l;
+			if ((minuend ^ 0x8000000000000000l) < (high ^ 0x8000000000000000l)) next = 1l;
+			if (borrow == 1l) {
+				if (limbs[index + 1] == 0) next = 1l;
+				limbs[index + 1] += 0xffffffffffffffffl;
+			}
+			borrow = next;
+			
+			for (int i = index + 2; borrow == 1l && i < LIMBS; i++) {
+				if (limbs[i] != 0) borrow = 0l;
+				limbs[i] += 0xffffffffffffffffl;
 			}
-			num1exp++;
 		}
-
-		return new SlicedDouble(sumstr, num1exp, negativesign);
+		
+		/**
+		 * Auxiliary method that returns the 64 digits of limbs that are beginning
+		 * from the giving limb after the shift to the left.
+		 */
+		private static long getLimbDigits(long[] limbs, int index, int shift) {
+			if (index < 0) return 0l;
+			
+			long digits = limbs[index] << shift;
+			if (shift > 0 && index > 0) digits |= limbs[index + 0xffffffff] >>> (64 + ~shift + 1);
+			
+			return digits;
+		}
 	}
 	
 	public static void main(String[] args) {
@@ -1732,7 +4259,8 @@ public class MiniMath {
                         "ru.andreygs.minimalmath.MiniMath test [precision]\n\n" +
                         "Tests availible: sum substraction division " +
                         "intdivision intfloordiv\nremainderofdiv " +
-                        "floormod ceil floor powint pow mult\n\n" +
+                        "floormod ceil floor rint powint pow mult divengines\n" +
+                        "powplan baseplan multiplier powround\n\n" +
                         "Precision as integer that is the number of digits\n" +
                         "from decimal point in range from 12 to 16 (inclusive)\n" +
                         "Default precision is 1.0e-12");
@@ -1757,12 +4285,24 @@ public class MiniMath {
                 testFunc = MiniMath::testCeil;
             else if (args[0].equals("floor"))
                 testFunc = MiniMath::testFloor;
+            else if (args[0].equals("rint"))
+                testFunc = MiniMath::testRint;
             else if (args[0].equals("powint"))
                 testFunc = MiniMath::testPowInteger;
             else if (args[0].equals("pow"))
                 testFunc = MiniMath::testPow;
             else if (args[0].equals("mult"))
                 testFunc = MiniMath::testMult;
+            else if (args[0].equals("divengines"))
+                testFunc = MiniMath::testDivisionEngines;
+            else if (args[0].equals("powplan"))
+                testFunc = MiniMath::testPowPlan;
+            else if (args[0].equals("baseplan"))
+                testFunc = MiniMath::testBasePlan;
+            else if (args[0].equals("multiplier"))
+                testFunc = MiniMath::testMultiplier;
+            else if (args[0].equals("powround"))
+                testFunc = MiniMath::testPowRounding;
             else {
                 out.println("Not a valid input");
                 return;
@@ -1908,6 +4448,48 @@ public class MiniMath {
 		out.println(counter + " results in real number powers test that have missed accuracy");
 	}
 	
+	/**
+	 * Test of the rounding of pow method with fractional powers from 100 down
+	 * to 1.0e-20, that counts the results that differ from Math.pow in the last
+	 * digit, apart from the results next to '1', and the results that differ
+	 * by more than one unit in the last place
+	 *
+	 * @param acc the accuracy of the test, it is not used because the
+	 *			  results are compared by their bits
+	 */
+	public static void testPowRounding(int acc) {
+		double factor1 = 1000.0, factor2;
+		int counter = 0, lastdigit = 0, nextto1 = 0;
+		
+		// the powers are going down to 1.0e-20, where the results are next to '1',
+		// and the results of the powers less than 1.0e-9 are counted separately
+		for (int i = 0; i < 23; i++) {
+			factor1 = factor1 / 10;
+			factor2 = 100000000000000000000.0;
+			for (int j = 0; j < 8000; j++) {
+				if (j % 400 == 0) factor2 = factor2 / 10;
+				double num = Math.random()*factor2, power = Math.random()*factor1;
+				if (j % 3 == 0) power = -power;
+				double result1 = pow(num, power), result2 = Math.pow(num, power);
+				if (Double.isInfinite(result2) || result2 == 0.0 || result1 == result2) continue;
+				long distance = Double.doubleToLongBits(result1) - Double.doubleToLongBits(result2);
+				if ((distance == 1 || distance == -1) && factor1 < 1.0e-9) nextto1++;
+				else if (distance == 1 || distance == -1) lastdigit++;
+				else {
+					out.println(num + "!");
+					out.println(power);
+					out.println(result1);
+					out.println(result2);
+					counter++;
+				}
+			}
+		}
+		
+		out.println(lastdigit + " results in real number powers rounding test differ in the last digit");
+		out.println(nextto1 + " results next to '1' in real number powers rounding test differ in the last digit");
+		out.println(counter + " results in real number powers rounding test differ by more than the last digit");
+	}
+	
 	/**
 	 * Test of pow method with integer powers
 	 *
@@ -1948,6 +4530,104 @@ public class MiniMath {
 		out.println(counter + " results in integer number powers test that have missed accuracy");
 	}
 	
+	/**
+	 * Test of the plan of raising to the power, that must give the same
+	 * results as pow method for the special values of numbers and powers
+	 *
+	 * @param acc the accuracy of the test, it is not used because the
+	 *			  results must be the same
+	 */
+	public static void testPowPlan(int acc) {
+		double[] values = getSpecialValues();
+		int counter = 0;
+		
+		for (double power : values) {
+			PowPlan plan = powPlan(power);
+			
+			for (double num : values) {
+				double result1 = plan.apply(num), result2 = pow(num, power);
+				if (Double.doubleToLongBits(result1) != Double.doubleToLongBits(result2)) {
+					out.println(num + "!");
+					out.println(power);
+					out.println(result1);
+					out.println(result2);
+					counter++;
+				}
+			}
+		}
+		
+		out.println(counter + " results of power plan differ from pow method");
+	}
+	
+	/**
+	 * Test of the plan of raising the number to many powers, that must give
+	 * the same results as pow method for the special values of numbers and powers
+	 *
+	 * @param acc the accuracy of the test, it is not used because the
+	 *			  results must be the same
+	 */
+	public static void testBasePlan(int acc) {
+		double[] values = getSpecialValues();
+		int counter = 0;
+		
+		for (double num : values) {
+			BasePlan plan = basePlan(num);
+			
+			for (double power : values) {
+				double result1 = plan.apply(power), result2 = pow(num, power);
+				if (Double.doubleToLongBits(result1) != Double.doubleToLongBits(result2)) {
+					out.println(num + "!");
+					out.println(power);
+					out.println(result1);
+					out.println(result2);
+					counter++;
+				}
+			}
+		}
+		
+		out.println(counter + " results of base plan differ from pow method");
+	}
+	
+	/**
+	 * Test of the multiplier by the constant, that must give the same
+	 * results as mult method for the special values of constants and numbers
+	 *
+	 * @param acc the accuracy of the test, it is not used because the
+	 *			  results must be the same
+	 */
+	public static void testMultiplier(int acc) {
+		double[] values = getSpecialValues();
+		int counter = 0;
+		
+		for (double constant : values) {
+			Multiplier multiplier = multiplierFor(constant);
+			
+			for (double num : values) {
+				double result1 = multiplier.apply(num), result2 = mult(constant, num);
+				if (Double.doubleToLongBits(result1) != Double.doubleToLongBits(result2)) {
+					out.println(constant + "!");
+					out.println(num);
+					out.println(result1);
+					out.println(result2);
+					counter++;
+				}
+			}
+		}
+		
+		out.println(counter + " results of multiplier differ from mult method");
+	}
+	
+	/**
+	 * Returns the special values and the simple numbers around them
+	 * for the tests of the same results: zeros, infinities, NaN, 1 and -1,
+	 * integer and fractional numbers, the extra small and extra large ones.
+	 */
+	private static double[] getSpecialValues() {
+		return new double[] {0.0, -0.0, 1.0, -1.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+			Double.NaN, 0.5, -0.5, 2.0, -2.0, 3.0, -3.0, 2.5, -2.5, 1e300, -1e300, 
+			Double.MIN_VALUE, -Double.MIN_VALUE, 0.7, -7.0, 1e-300};
+	}
+	
 	/**
 	 * Test of summing
 	 *
@@ -2067,6 +4747,54 @@ public class MiniMath {
 		out.println(counter + " results in full division test have missed accuracy");
 	}
 	
+	/**
+	 * Test of speed of division engines. All of them are dividing the same
+	 * numbers and their results are compared with the first engine.
+	 *
+	 * @param acc the accuracy of the test in digits after decimal point
+     * (parameter is dummy for the interface)
+     */
+	public static void testDivisionEngines(int acc) {
+		double[] dividends = new double[200000], divisors = new double[200000];
+		double[][] results = new double[3][200000];
+		String[] names = {"radix-2", "radix-4", "Newton"};
+		int counter = 0;
+		
+		for (int i = 0; i < dividends.length; i++) {
+			dividends[i] = Math.random()*Math.pow(10, i % 600 - 300);
+			divisors[i] = Math.random()*Math.pow(10, i % 200 - 100);
+			if (i % 2 == 0) dividends[i] = -dividends[i];
+		}
+		
+		// the first round is warming up
+		for (int round = 0; round < 2; round++) {
+			for (int e = 0; e < 3; e++) {
+				Instant in1 = Instant.now();
+				for (int i = 0; i < dividends.length; i++) {
+					results[e][i] = division(dividends[i], divisors[i], e);
+				}
+				Instant in2 = Instant.now();
+				
+				if (round == 1) out.println(names[e] + ": " + (in2.getNano()-in1.getNano()+
+					(in2.getEpochSecond()-in1.getEpochSecond())*1000000000l) + "ns");
+			}
+		}
+		
+		for (int e = 1; e < 3; e++) {
+			for (int i = 0; i < dividends.length; i++) {
+				if (Double.doubleToLongBits(results[e][i]) != Double.doubleToLongBits(results[0][i])) {
+					out.println(dividends[i] + "!");
+					out.println(divisors[i]);
+					out.println(results[0][i]);
+					out.println(results[e][i] + " " + names[e]);
+					counter++;
+				}
+			}
+		}
+		
+		out.println(counter + " results of division engines differ from radix-2 engine");
+	}
+	
 	/**
 	 * Test of integer division
      *
@@ -2278,13 +5006,44 @@ public class MiniMath {
 		
 		out.println(counter + " results in ceil test have missed accuracy");
 	}
+	
+	/**
+	 * Test of rounding to the closest integer
+	 *
+	 * @param acc the accuracy of the test in digits after decimal point
+     * (parameter is dummy for the interface)
+	 */
+	public static void testRint(int acc) {
+		double factor1 = 1.0E308;
+		int counter = 0;
+		
+		for (int i = 0; i < 63200; i++) {
+			if (i % 100 == 0) { 
+				factor1 = factor1 / 10; 
+				out.println(factor1 + " number random factor"); 
+			}
+			double num = (Math.random() - 0.5)*factor1;
+			double result1 = rint(num), result2 = Math.rint(num);
+			if (Double.doubleToLongBits(result1) != Double.doubleToLongBits(result2)) {
+				out.println(num + "!");
+				out.println(result1);
+				out.println(result2);
+				out.println(Long.toBinaryString(Double.doubleToLongBits(result1)));
+				out.println(Long.toBinaryString(Double.doubleToLongBits(result2)));
+				counter++;
+			}
+		}
+		
+		out.println(counter + " results in rint test have missed accuracy");
+	}
 		
 		
 	
 	// In spite of that it do a rounding like it assumed in the standart
 	// due to only 64 bits availible it returns a rounding that is less
 	// accurate that a simple one that presents in SlicedDouble
-	// service method getRoundedRawBin(). It is not deleted for now
+	// method getIEEE754(), with the lowest of 64 bits rounded to odd
+	// by the inner methods. It is not deleted for now
 	// because of possibility to adding additional accuracy in the
 	// future (if there be extra number that would be holding some extra bits).
 	/*
@@ -2310,10 +5069,10 @@ public class MiniMath {
 		
 		if (square.getDouble() != null) {
 			if ((square.getIEEE754() == Double.POSITIVE_INFINITY &&  b.getIEEE754() != Double.POSITIVE_INFINITY) || square.getIEEE754() == 0.0 || square.getIEEE754() == -0.0) {
-				b.setSign(number.getNegativeSign());
+				b = b.withSign(number.getNegativeSign());
 				return b.getIEEE754();
 			} else if (b.getIEEE754() == Double.POSITIVE_INFINITY) {
-				a.setSign(number.getNegativeSign());
+				a = a.withSign(number.getNegativeSign());
 				return a.getIEEE754();
 			}
 		}
@@ -2325,10 +5084,10 @@ public class MiniMath {
 		long longrawproduct = Long.parseUnsignedLong(rawproduct, 2);
 		
 		if (longrawsquare > longrawproduct || square.getExp() > product.getExp()) {
-			b.setSign(number.getNegativeSign());
+			b = b.withSign(number.getNegativeSign());
 			return b.getIEEE754();
 		} else {
-			a.setSign(number.getNegativeSign());
+			a = a.withSign(number.getNegativeSign());
 			return a.getIEEE754();
 		}
 	}
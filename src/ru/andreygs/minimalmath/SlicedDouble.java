@@ -1,102 +1,183 @@
 package ru.andreygs.minimalmath;
 
-import java.util.regex.Pattern;
-import java.util.regex.Matcher;
-
 /**
  * The {@code SlicedDouble} class is an auxiliary type, that helps with
  * calculations in {@code MiniMath} class.
  *
  * <p>Its species are exists in two main states:
  *
- * <p>1. When the {@code double} value compilated - after evaluation 
- * of {@code getIEEE754()}method. As you can see that state is using to get 
- * an inputs and outputs when {@code double} value is expected.
- * 
- * <p>2. When there is no rounding of mantissa perfoming by evaluation of
- * {@code getIEEE754()} method and its submethods. That state is using to
- * manipulate the raw values without some of limitations of pure {@code double} format.
- * 
+ * <p>1. When the {@code double} value compilated - the instance was constructed
+ * from {@code double} number, and {@code getDouble()} returns it. As you can
+ * see that state is using to get an inputs and outputs when {@code double}
+ * value is expected, and for the extremum values of results.
+ *
+ * <p>2. When the instance was constructed from mantissa and exponent. That
+ * state is using to manipulate the raw values without some of limitations of
+ * pure {@code double} format. The {@code getIEEE754()} method gives the rounded
+ * {@code double} value of it, but the instance stays in this state.
+ *
  * <p>It include a few different constructors that are using depend on
  * what input you may or can to proceed.
  *
  * <p>Beacuse of its surrogate nature the number in {@code SlicedDouble} type
- * is exists in sliced form. There is separate mantissa as {@code String}, 
- * an exponent as {@code Integer} and negativesign as {@code String}. These are
+ * is exists in sliced form. There is separate mantissa as {@code long},
+ * an exponent as {@code int} and negative sign as {@code boolean}. These are
  * the base of number that holds in. All other fractions can be comupted with availible
- * instance methods.
+ * instance methods. The {@code String} views of mantissa and its parts
+ * are rendered only on demand and are not using in calculations.
+ *
+ * <p>The instances are immutable. The sign is changing by {@code withSign()}
+ * and {@code negate()} methods, that are returning the new instance, and the
+ * rounding to {@code double} does not change the mantissa and exponent. The
+ * {@code double} value and {@code String} views that are computed on demand
+ * are immutable objects too, they are written to the volatile fields only once
+ * (or a few times by different threads, but always the same value), so the
+ * same instance may be shared between threads without cloning.
  *
  * @author Andrey Grabov-Smetankin
  */
 public class SlicedDouble implements Cloneable {
 	
 	/**
-	 * That variable obtain a value by two different ways.
-	 * 
-	 * <p>First: as an input of respective constructor;
-	 * <p>Second: after evaluation of {@code .getIEEE754()} method
+	 * That variable obtain a value as an input of respective constructor.
+	 *
+	 * <p>It is valid only if {@code compiled} is true.
 	 */
-	private Double number;
+	private final double number;
 	
 	/**
-	 * Holds the negative sign: "-" if number is negative and "" if not
+	 * Shows whether the {@code number} is holding a valid value
 	 */
-	private String negativesign;
+	private final boolean compiled;
 	
 	/**
-	 * Mantissa of number without leading and trailing zeros.
-	 * It can be empty in case if number is 0.0, or -0.0
+	 * Holds the negative sign: true if number is negative and false if not
+	 */
+	private final boolean negative;
+	
+	/**
+	 * Shows whether the number has mantissa and exponent. It is false
+	 * for Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY and Double.NaN
+	 */
+	private final boolean finite;
+	
+	/**
+	 * Mantissa of number without leading and trailing zeros, so its
+	 * lowest bit is always '1' and binary view of it is equal to
+	 * the mantissa {@code String}. It is 0 in case if number is 0.0, or -0.0
 	 * or Double.POSITIVE_INFINITY, or Double.NEGATIVE_INFINITY
 	 * or Double.NaN;
 	 */
-	private String raw;
+	private final long raw;
 	
 	/**
-	 * The {@code long} value that obtains by {@code .parseUnsignedLong()}
-	 * of raw {@code String}.
+	 * The exponent of number
 	 */
-	private Long longraw;
+	private final int exp;
 	
 	/**
-	 * The raw of integer part of number
+	 * The rounded {@code double} value of number that is computed
+	 * on demand, if the {@code number} is not valid
 	 */
-	private String intraw;
+	private volatile Double roundednumber;
 	
 	/**
-	 * The raw of fractional part of number
+	 * The binary {@code String} view of mantissa
 	 */
-	private String fractraw;
+	private volatile String binaryraw;
 	
 	/**
-	 * The exponent of number
+	 * The raw of integer part of number
 	 */
-	private Integer exp;
+	private volatile String intraw;
 	
 	/**
-	 * That variable holds number of '1' in the raw
+	 * The raw of fractional part of number
 	 */
-	private Integer onesnum;
+	private volatile String fractraw;
 	
 	/**
 	 * It's a rounded raw that apply when {@code double} format need to
 	 * be obtained.
 	 */
-	private String roundedrawbin;
+	private volatile String roundedrawbin;
 	
 	/**
 	 * The hexadecimal sview of rounded raw
 	 */
-	private String roundedrawhex;
+	private volatile String roundedrawhex;
 	
 	/**
-	 * The binary form of view of full {@code double} number 
+	 * The binary form of view of full {@code double} number
 	 */
-	private String ieee754bin;
+	private volatile String ieee754bin;
 	
 	/**
-	 * The hexadecimal form of view of full {@code double} number 
+	 * The hexadecimal form of view of full {@code double} number
 	 */
-	private String ieee754hex;
+	private volatile String ieee754hex;
+	
+	/**
+	 * The greatest absolute value of integer numbers that are held in the
+	 * pool of {@code valueOf()} method. It is read from the
+	 * "ru.andreygs.minimalmath.SlicedDouble.cachehigh" system property,
+	 * and it is 256 by default, but not less than 1 and not greater than 2^20.
+	 */
+	private static final int CACHE_HIGH;
+	
+	/**
+	 * The pool of numbers 0.0, 1.0, 2.0 and so on up to {@code CACHE_HIGH},
+	 * index is the number
+	 */
+	private static final SlicedDouble[] POSITIVE_INTEGERS;
+	
+	/**
+	 * The pool of numbers -0.0, -1.0, -2.0 and so on down to
+	 * -{@code CACHE_HIGH}, index is the absolute value of number
+	 */
+	private static final SlicedDouble[] NEGATIVE_INTEGERS;
+	
+	/**
+	 * The pool of positive powers of two from 2^-1074 to 2^1023 that are
+	 * filled on the first demand, index is the power plus 1074
+	 */
+	private static final SlicedDouble[] POSITIVE_POWERS = new SlicedDouble[2098];
+	
+	/**
+	 * The pool of negative powers of two, the same as {@code POSITIVE_POWERS}
+	 */
+	private static final SlicedDouble[] NEGATIVE_POWERS = new SlicedDouble[2098];
+	
+	/**
+	 * The shared instance of {@code Double.POSITIVE_INFINITY}
+	 */
+	private static final SlicedDouble POSITIVE_INFINITY = new SlicedDouble(Double.POSITIVE_INFINITY);
+	
+	/**
+	 * The shared instance of {@code Double.NEGATIVE_INFINITY}
+	 */
+	private static final SlicedDouble NEGATIVE_INFINITY = new SlicedDouble(Double.NEGATIVE_INFINITY);
+	
+	/**
+	 * The shared instance of {@code Double.NaN}
+	 */
+	private static final SlicedDouble NAN = new SlicedDouble(Double.NaN);
+	
+	static {
+		int high = Integer.getInteger("ru.andreygs.minimalmath.SlicedDouble.cachehigh", 256);
+		
+		if (high < 1) high = 1;
+		else if (high > 0x100000) high = 0x100000;
+		
+		CACHE_HIGH = high;
+		POSITIVE_INTEGERS = new SlicedDouble[high + 1];
+		NEGATIVE_INTEGERS = new SlicedDouble[high + 1];
+		
+		for (int i = 0; i <= high; i++) {
+			POSITIVE_INTEGERS[i] = new SlicedDouble((double) i);
+			NEGATIVE_INTEGERS[i] = new SlicedDouble(-(double) i);
+		}
+	}
 	
 	/**
 	 * This constructor is using, when {@code double} number is supplied.
@@ -105,19 +186,37 @@ public class SlicedDouble implements Cloneable {
 	 *
 	 * <p>The exceptions are {@code Double.POSITIVE_INFINITY} and
 	 * {@code Double.NEGATIVE_INFINITY} - there will be no mantissa and exponent. And
-	 * {@code Double.NaN} - there negativesign will also be null.
+	 * {@code Double.NaN} - there negativesign will also be positive.
 	 *
 	 * @param number the {@code double} number
 	 */
 	public SlicedDouble(double number) {
 		this.number = number;
+		this.compiled = true;
+		
+		long bits = Double.doubleToRawLongBits(number);
+		int biasedexp = (int)(bits >>> 52) & 0x7ff;
+		long fract = bits & 0x000fffffffffffffl;
+		
+		finite = biasedexp != 0x7ff;
+		negative = bits < 0 && !Double.isNaN(number);
 		
-		if (number != Double.POSITIVE_INFINITY &&  number != Double.NEGATIVE_INFINITY  &&
-			!Double.isNaN(number)) {
-			sliceIt();
+		// check for zero and denormal numbers, infinities and NaN
+		if (biasedexp == 0) {
+			if (fract != 0) {
+				exp = 0xfffffc0d + ~Long.numberOfLeadingZeros(fract) + 1;
+				raw = fract >>> Long.numberOfTrailingZeros(fract);
+			} else {
+				exp = 0;
+				raw = 0l;
+			}
+		} else if (!finite) {
+			exp = 0;
+			raw = 0l;
 		} else {
-			if (number == Double.POSITIVE_INFINITY) negativesign = "";
-			else if (number == Double.NEGATIVE_INFINITY) negativesign = "-";
+			exp = biasedexp + 0xfffffc01;
+			fract |= 0x0010000000000000l;
+			raw = fract >>> Long.numberOfTrailingZeros(fract);
 		}
 	}
 	
@@ -132,11 +231,37 @@ public class SlicedDouble implements Cloneable {
 	 * @param negativesign	the negativesign
 	 */
 	public SlicedDouble(long longraw, int exp, String negativesign) {
-		this.raw = cutFractTail(Long.toBinaryString(longraw));
-		this.exp = exp;
+		this(longraw, exp, negativesign != null && !negativesign.isEmpty());
+	}
+	
+	/**
+	 * Constructs a {@code SlicedDouble} number from its inputs
+	 *
+	 * <p>The mantissa is the binary digits of longraw beginning from
+	 * the highest '1', and its trailing zeros are omitting. The exponent
+	 * is relating to the highest '1' of mantissa. If longraw is 0
+	 * than number will be equivalent to '0.0' or '-0.0'.
+	 *
+	 * <p>Nothing is parsed or validated here, so this is the constructor
+	 * for mantissas that are produced by the inner methods of {@code MiniMath}.
+	 *
+	 * @param longraw 		the long number that contains mantissa
+	 * @param exp			the exponent of creating number
+	 * @param negative		true if number is negative
+	 */
+	public SlicedDouble(long longraw, int exp, boolean negative) {
+		this.number = 0.0;
+		this.compiled = false;
+		this.finite = true;
+		this.negative = negative;
 		
-		if (negativesign == null || negativesign.isEmpty()) this.negativesign = "";
-		else this.negativesign = "-";
+		if (longraw != 0) {
+			this.raw = longraw >>> Long.numberOfTrailingZeros(longraw);
+			this.exp = exp;
+		} else {
+			this.raw = 0l;
+			this.exp = 0;
+		}
 	}
 	
 	/**
@@ -156,60 +281,108 @@ public class SlicedDouble implements Cloneable {
 	 * @param negativesign	the negativesign
 	 */
 	public SlicedDouble(String raw, int exp, String negativesign) {
-		this.raw = cutFractTail(parseRaw(raw));
-		if (this.raw.isEmpty()) this.exp = 0;
-		else this.exp = exp;
-        
-		if (negativesign == null || negativesign.isEmpty()) this.negativesign = "";
-		else this.negativesign = "-";
+		this(parseLongRaw(raw), exp, negativesign != null && !negativesign.isEmpty());
 	}
 	
 	/**
-	 * This constructor is using by {@code .clone()} method.
+	 * This constructor is using by {@code .clone()} and {@code withSign()}
+	 * methods. The views that are not depending on the sign are shared.
 	 */
-	private SlicedDouble(Double number, String negativesign, String raw, Long longraw,
-		String intraw, String fractraw, Integer exp, Integer onesnum, String roundedrawbin,
-		String roundedrawhex, String ieee754bin, String ieee754hex)	{
-		if (number != null) this.number = Double.valueOf(number);
-		this.negativesign = negativesign;
-		this.raw = raw;
-		if (longraw != null) this.longraw = Long.valueOf(longraw);
-		this.intraw = intraw;
-		this.fractraw = fractraw;
-		if (exp != null) this.exp = Integer.valueOf(exp);
-		if (onesnum != null) this.onesnum = Integer.valueOf(onesnum);
-		this.roundedrawbin = roundedrawbin;
-		this.roundedrawhex = roundedrawhex;
-		this.ieee754bin = ieee754bin;
-		this.ieee754hex = ieee754hex;
+	private SlicedDouble(SlicedDouble origin, boolean negative) {
+		if (origin.negative == negative) this.number = origin.number;
+		else this.number = -origin.number;
+		
+		this.compiled = origin.compiled;
+		this.negative = negative;
+		this.finite = origin.finite;
+		this.raw = origin.raw;
+		this.exp = origin.exp;
+		this.binaryraw = origin.binaryraw;
+		this.intraw = origin.intraw;
+		this.fractraw = origin.fractraw;
+		this.roundedrawbin = origin.roundedrawbin;
+		this.roundedrawhex = origin.roundedrawhex;
+		
+		if (origin.negative == negative) {
+			this.roundednumber = origin.roundednumber;
+			this.ieee754bin = origin.ieee754bin;
+			this.ieee754hex = origin.ieee754hex;
+		}
 	}
 	
 	/**
-	 * Auxiliary method to slice the input to the constructor {@code double} number.
+	 * Returns the {@code SlicedDouble} instance of the {@code double} number,
+	 * the same as {@code new SlicedDouble(number)}.
+	 *
+	 * <p>Zeros, infinities, {@code Double.NaN}, the powers of two and the
+	 * integer numbers with absolute value up to the bound (256 by default,
+	 * it can be set by "ru.andreygs.minimalmath.SlicedDouble.cachehigh"
+	 * system property) are taken from the pool of shared instances, that
+	 * are already sliced. It is safe, because the instances are immutable,
+	 * but the identity of returning instances must not be relied on.
+	 *
+	 * @param number the {@code double} number
+	 *
+	 * @return the {@code SlicedDouble} instance of number
 	 */
-	private void sliceIt() {
-		String[] stripes = Double.toHexString(number).split("[.p]");
+	public static SlicedDouble valueOf(double number) {
+		long bits = Double.doubleToRawLongBits(number);
+		long magnitude = bits & 0x7fffffffffffffffl;
 		
-		if (stripes[0].charAt(0) == '-') negativesign = "-";
-		else negativesign = "";
+		if (magnitude >= 0x7ff0000000000000l) {
+			if (magnitude == 0x7ff0000000000000l) {
+				if (bits < 0) return NEGATIVE_INFINITY;
+				return POSITIVE_INFINITY;
+			}
+			// only the canonical NaN, so the bits of others are kept
+			if (bits == 0x7ff8000000000000l) return NAN;
+			return new SlicedDouble(number);
+		}
 		
-		roundedrawhex = stripes[1];
-		raw = cutFractTail(fromHexToBinary(roundedrawhex));
+		double absolute = Double.longBitsToDouble(magnitude);
 		
-		// check for zero and denormal numbers
-		if (stripes[0].charAt(stripes[0].length() + 0xffffffff) == '0') {
-			int denormaladdexp = raw.indexOf('1');
-			if (denormaladdexp != 0xffffffff) {
-				exp = 0xfffffc02 + ~denormaladdexp;
-				raw = raw.substring(raw.indexOf('1'));
-			} else {
-				exp = 0;
-				raw = "";
+		if (absolute <= CACHE_HIGH) {
+			int intvalue = (int) absolute;
+			
+			if (intvalue == absolute) {
+				if (bits < 0) return NEGATIVE_INTEGERS[intvalue];
+				return POSITIVE_INTEGERS[intvalue];
 			}
+		}
+		
+		int index;
+		
+		// the normal number with empty fraction or the denormal one with single '1'
+		if ((magnitude & 0x000fffffffffffffl) == 0) {
+			index = (int)(magnitude >>> 52) + 51;
+		} else if (magnitude < 0x0010000000000000l &&
+			(magnitude & (magnitude + 0xffffffffffffffffl)) == 0) {
+			index = Long.numberOfTrailingZeros(magnitude);
 		} else {
-			exp = Integer.valueOf(stripes[2]);
-			raw = "1" + raw;
+			return new SlicedDouble(number);
+		}
+		
+		SlicedDouble[] powers = POSITIVE_POWERS;
+		if (bits < 0) powers = NEGATIVE_POWERS;
+		
+		// racing threads may put the equal instances, any of them is right
+		SlicedDouble power = powers[index];
+		if (power == null) {
+			power = new SlicedDouble(number);
+			powers[index] = power;
 		}
+		
+		return power;
+	}
+	
+	/**
+	 * Auxiliary method that returns the long value of mantissa
+	 * contained in the {@code String}.
+	 */
+	private static long parseLongRaw(String raw) {
+		if (raw == null) return 0l;
+		
+		return scanRaw(raw::charAt, 0, raw.length());
 	}
 	
 	/**
@@ -219,17 +392,13 @@ public class SlicedDouble implements Cloneable {
 	 * If null is supplied as argument, or if in the argument there is no
 	 * valid binary string, than it returns empty string.
 	 *
-	 * @param raw the {@code String} containg bianry raw
+	 * @param raw the {@code String} containing binary raw
 	 * @return binary number in the {@code String} form or empty {@code String}.
 	 */
 	public static String parseRaw(String raw) {
-		if (raw.equals(null)) return "";
+		if (raw == null) return "";
 		
-		Pattern p = Pattern.compile("(?<=0{0,}+)[01]{0,64}");
-		Matcher m = p.matcher(raw);
-		m.find();
-
-		return m.group();
+		return getParsedRaw(scanRaw(raw::charAt, 0, raw.length()));
 	}
 	
 	/**
@@ -240,13 +409,90 @@ public class SlicedDouble implements Cloneable {
 	 * If null is supplied as argument, or if in the argument there is no
 	 * valid binary string, than it returns empty string.
 	 *
-	 * @param raw 	the {@code String} containg bianry raw
+	 * @param raw 	the {@code String} containing binary raw
 	 * @param start the begining index, inclusive
 	 * @param end	the ending index, exclusive
 	 * @return binary number in the {@code String} form or empty {@code String}.
 	 */
 	public static String parseRaw(String raw, int start, int end) {
-		return parseRaw(raw.substring(start, end));
+		if (raw == null) return "";
+		
+		return getParsedRaw(scanRaw(raw::charAt, start, end));
+	}
+	
+	/**
+ 	 * Returns the {@code String} of binary number maximum length of 64
+	 * that is parsed in the characters of array, the same way as
+	 * {@code parseRaw(String raw)} does it.
+	 *
+	 * @param raw the characters containing binary raw
+	 * @return binary number in the {@code String} form or empty {@code String}.
+	 */
+	public static String parseRaw(char[] raw) {
+		if (raw == null) return "";
+		
+		return getParsedRaw(scanRaw(index -> raw[index], 0, raw.length));
+	}
+	
+	/**
+ 	 * Returns the {@code String} of binary number maximum length of 64
+	 * that is parsed in the bytes of ASCII characters, the same way as
+	 * {@code parseRaw(String raw)} does it.
+	 *
+	 * @param raw the bytes containing binary raw
+	 * @return binary number in the {@code String} form or empty {@code String}.
+	 */
+	public static String parseRaw(byte[] raw) {
+		if (raw == null) return "";
+		
+		return getParsedRaw(scanRaw(index -> raw[index], 0, raw.length));
+	}
+	
+	/**
+	 * Auxiliary interface that gives the characters of binary raw by their
+	 * index, so the {@code String}, the characters and the bytes are scanned
+	 * by the same method.
+	 */
+	private interface RawCharacters {
+		int get(int index);
+	}
+	
+	/**
+	 * Auxiliary method that scans the binary digits of raw in one pass
+	 * from start to the first character that is not a digit, or to the end,
+	 * and returns their value. Leading zeros are skipped and only 64 digits
+	 * after them are taken.
+	 */
+	private static long scanRaw(RawCharacters raw, int start, int end) {
+		long value = 0l;
+		
+		for (int i = start, digits = 0; i < end && digits < 64; i++) {
+			int digit = getBinaryDigit(raw.get(i));
+			if (digit < 0) break;
+			
+			value = (value << 1) | digit;
+			if (value != 0) digits++;
+		}
+		
+		return value;
+	}
+	
+	/**
+	 * Auxiliary method that returns the value of binary digit
+	 * or -1 if the character is not a binary digit.
+	 */
+	private static int getBinaryDigit(int character) {
+		if (character == '0') return 0;
+		else if (character == '1') return 1;
+		else return 0xffffffff;
+	}
+	
+	/**
+	 * Auxiliary method that returns the digits of parsed mantissa.
+	 */
+	private static String getParsedRaw(long value) {
+		if (value == 0) return "";
+		else return Long.toBinaryString(value);
 	}
 	
 	/**
@@ -295,9 +541,9 @@ public class SlicedDouble implements Cloneable {
 	 *
 	 * <p>If {@code raw.length() % 4 != 0} than additional zeros will be added.<br>
 	 * For example:<br>
-	 * {@code raw.equals("011011")} as input than it will be considered as 
+	 * {@code raw.equals("011011")} as input than it will be considered as
 	 * {@code raw.equals("01101100")} and the output will be "6c"
-	 * 
+	 *
 	 * @param raw the binary {@code String}
 	 * @return the hexadecimal representation of input
 	 */
@@ -363,18 +609,40 @@ public class SlicedDouble implements Cloneable {
 		return "";
 	}
 	
+	/**
+	 * Auxiliary method that renders the lowest bits of value to
+	 * the binary {@code String} of the specified length with leading zeros.
+	 */
+	private static String toBinaryString(long value, int length) {
+		if (length == 0) return "";
+		
+		String binary = Long.toBinaryString(value);
+		
+		if (binary.length() < length) {
+			StringBuilder zeros = new StringBuilder(length);
+			for (int i = binary.length(); i < length; i++) zeros.append('0');
+			binary = zeros.append(binary).toString();
+		}
+		
+		return binary;
+	}
+	
 	/**
 	 * Returns the long representation of raw {@code String} that contain instance.
 	 *
 	 * @return the raw of instance in the long view
 	 */
-	public Long getLongRaw() {
-		if (longraw == null) {
-			if (raw.isEmpty()) longraw = 0l;
-			else longraw = Long.parseUnsignedLong(raw, 2);
-		}
-		
-		return longraw;
+	public long getLongRaw() {
+		return raw;
+	}
+	
+	/**
+	 * Returns the number of digits in the mantissa of instance.
+	 *
+	 * @return the mantissa length
+	 */
+	public int getRawLength() {
+		return 64 + ~Long.numberOfLeadingZeros(raw) + 1;
 	}
 	
 	/**
@@ -384,6 +652,17 @@ public class SlicedDouble implements Cloneable {
 	 * @return the exponent of instance
 	 */
 	public Integer getExp() {
+		if (finite) return exp;
+		else return null;
+	}
+	
+	/**
+	 * Returns current exponent of instance as primitive. For the Double.NaN,
+	 * Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY it is 0.
+	 *
+	 * @return the exponent of instance
+	 */
+	public int getExponent() {
 		return exp;
 	}
 	
@@ -393,70 +672,72 @@ public class SlicedDouble implements Cloneable {
 	 * @return the mantissa
 	 */
 	public String getBinaryRaw() {
-		return raw;
+		String view = binaryraw;
+		
+		if (view == null && finite) {
+			if (raw == 0) view = "";
+			else view = Long.toBinaryString(raw);
+			
+			binaryraw = view;
+		}
+		
+		return view;
 	}
 	
 	/**
-	 * Returns the {@code String} that contains hexadecimal mantissa 
+	 * Returns the {@code String} that contains hexadecimal mantissa
 	 * representation that was rounded according to {@code double} format.
 	 *
-	 * <p><b>Attention:</b> this method may imply some mutation on the
-	 * internal raw {@code String}, in accordance with {@code double} format
-	 * transcription. So you should use carefully.
-	 *
 	 * @return the rounded hexadecimal mantissa
 	 */
 	public String getRoundedRawHex() {
-		if (roundedrawhex == null) {
-			roundedrawhex = fromBinaryToHex(getRoundedRawBin());
+		String view = roundedrawhex;
+		
+		if (view == null) {
+			view = fromBinaryToHex(getRoundedRawBin());
+			roundedrawhex = view;
 		}
 		
-		return roundedrawhex;
+		return view;
 	}
 	
 	/**
-	 * Returns the {@code String} that contains binary mantissa 
+	 * Returns the {@code String} that contains binary mantissa
 	 * representation that was rounded according to {@code double} format.
-	 *
-	 * <p><b>Attention:</b> this method may imply some mutation on the
-	 * internal raw {@code String}, in accordance with {@code double} format
-	 * transcription. So you should use carefully.
+	 * There are only the digits after the leading '1' without trailing zeros,
+	 * so if the rounding has carried to the next power of two, the result
+	 * is empty, and the exponent of {@code double} number is greater by one
+	 * than of instance. The instance itself is not changing.
 	 *
 	 * @return the rounded binary mantissa
 	 */
 	public String getRoundedRawBin() {
-		if (roundedrawbin == null) {
+		String view = roundedrawbin;
+		
+		if (view == null) {
+			long bits = Double.doubleToRawLongBits(getIEEE754());
+			long mantissa = bits & 0x000fffffffffffffl;
+			
+			// the hidden '1' of normal number
+			if ((bits & 0x7ff0000000000000l) != 0) mantissa |= 0x0010000000000000l;
 			
-			// These instructions supply additional accuracy
-			// in spite of that we already have scaled rounding in MiniMath,
-			// current final rounding highly increase precision of result,
-			// total amount of missed values with accuracy of 13-14 digits after decimal point 
-			// reach up to 10-20 times less, relatively of when these instructions are off
-			//if (raw.length() > 53 && (raw.indexOf('0') > 52 || raw.indexOf('0') == 0xffffffff)) {
-			if (raw.length() > 53 && raw.charAt(53) == '1') {
-                int i = raw.indexOf('0');
-				if (i > 53 || i == 0xffffffff) {
-					exp++;
-					roundedrawbin = "";
-					raw = "1";
-				} else {
-					long chunk = Long.valueOf(raw.substring(0,53), 2);
-					chunk++;
-					roundedrawbin = Long.toBinaryString(chunk).substring(1);
-					if (roundedrawbin.length() == 53) exp++;
-				}
+			if (mantissa == 0 || !finite) {
+				view = "";
 			} else {
-				if (raw.length() < 2) roundedrawbin = "";
-				else roundedrawbin = raw.substring(1);
+				mantissa >>>= Long.numberOfTrailingZeros(mantissa);
+				view = toBinaryString(mantissa ^ Long.highestOneBit(mantissa), 63 + ~Long.numberOfLeadingZeros(mantissa) + 1);
 			}
+			
+			roundedrawbin = view;
 		}
 		
-		return roundedrawbin;
+		return view;
 	}
 	
 	/**
 	 * Returns full hexadecimal representation in {@code String} format
-	 * of valid {@code double} number.
+	 * of valid {@code double} number, as {@code Double.toHexString(double)}
+	 * does it.
 	 *
 	 * <p>There are three special cases:
 	 * <ul>
@@ -465,70 +746,152 @@ public class SlicedDouble implements Cloneable {
 	 *  <li>if {@code number == Double.NEGATIVE_INFINITY} returns "-Infinity"</li>
 	 * </ul>
 	 *
-	 * <p><b>Attention:</b> this method may imply some mutation on the
-	 * internal raw {@code String}, in accordance with {@code double} format
-	 * transcription. So you should use carefully.
-	 *
 	 * @return the hexadecimal representation of internal number.
 	 */
 	public String getDoubleHexRaw() {
-		if (number != null) {
-			if (Double.isNaN(number)) return "NaN";
-			else if (number == Double.POSITIVE_INFINITY) return "Infinity";
-			else if (number == Double.NEGATIVE_INFINITY) return "-Infinity";
-		} else if (exp > 1023) {
-			if (negativesign.isEmpty()) return "Infinity";
-			else return "-Infinity";
-		}
-
-		if (ieee754hex == null) {
-			if ((raw.indexOf('1') == 0xffffffff && exp == 0) || exp  < 0xfffffbcd) {
-				// if it's '0' or below minimum
-				ieee754hex = negativesign + "0x0.0p0";
-			} else {
-				getRoundedRawBin();
-				ieee754hex = negativesign + "0x1." + getRoundedRawHex() + "p" + exp;
-			}
+		String view = ieee754hex;
+		
+		if (view == null) {
+			view = Double.toHexString(getIEEE754());
+			ieee754hex = view;
 		}
 		
-		return ieee754hex;
+		return view;
 	}
 	
 	/**
 	 * Computes and returns valid {@code double} number representation of
 	 * the current instance.
 	 *
-	 * <p><b>Attention:</b> this method may imply some mutation on the
-	 * internal raw {@code String}, in accordance with {@code double} format
-	 * transcription. So you should use carefully.
+	 * <p>The mantissa is rounded half to even to the 53 bits of
+	 * normal numbers, or to the less bits that are left for denormal ones.
+	 * If rounding overflows the mantissa, the exponent is incremented, so
+	 * the greatest values of both ranges become the next normal number or
+	 * infinity. The instance is not changing, and {@code getDouble()}
+	 * still returns null after it, if the instance was not constructed
+	 * from {@code double} number.
 	 *
 	 * @return the {@code double} number representation of the current instance
 	 */
 	public Double getIEEE754() {
-		if (number == null) {
-			number = Double.valueOf(getDoubleHexRaw());
+		if (compiled) return number;
+		
+		Double result = roundednumber;
+		
+		if (result == null) {
+			result = Double.longBitsToDouble(getRoundedBits());
+			roundednumber = result;
 		}
 		
-		return number;	
+		return result;
 	}
 	
 	/**
-	 * Returns the sum of '1' in internal mantissa.
-	 *
-	 * @return the sum of '1' in internal mantissa
+	 * Auxiliary method that assembles IEEE 754 bits of the finite instance
+	 * with half to even rounding of the mantissa.
 	 */
-	public Integer onesEnum() {
-		if (onesnum == null) {
-			int counter = 0;
+	private long getRoundedBits() {
+		long bits = 0;
+		
+		if (negative) bits = 0x8000000000000000l;
+		
+		// if it's '0' or below the half of minimal denormal
+		if (raw == 0 || exp < 0xfffffbcd) return bits;
+		
+		if (exp > 1023) return bits | 0x7ff0000000000000l;
+		
+		// not a single bit of denormal is left, the exact half is even '0'
+		if (exp == 0xfffffbcd) {
+			if (raw == 1) return bits;
+			else return bits | 1l;
+		}
+		
+		int rawlen = getRawLength();
+		int length = 53;
+		long biasedexp = 0;
+		
+		if (exp < 0xfffffc02) length = exp + 1075;
+		else biasedexp = (long)(exp + 1022) << 52;
+		
+		long mantissa;
+		
+		if (rawlen > length) {
+			int shift = rawlen + ~length + 1;
+			long rest = raw & (0xffffffffffffffffl >>> (64 + ~shift + 1));
+			long half = 1l << (shift + 0xffffffff);
 			
-			for (int i = 0; i < getBinaryRaw().length(); i++) {
-				if (raw.charAt(i) == '1') counter++;
-			}
+			mantissa = raw >>> shift;
 			
-			onesnum = counter;
+			if (rest > half || (rest == half && (mantissa & 1) == 1)) mantissa++;
+		} else {
+			mantissa = raw << (length + ~rawlen + 1);
 		}
 		
-		return onesnum;
+		// the carry of mantissa (if it is) moves to exponent bits
+		return bits | (biasedexp + mantissa);
+	}
+	
+	/**
+	 * Returns the sum of '1' in internal mantissa.
+	 *
+	 * @return the sum of '1' in internal mantissa
+	 */
+	public int onesEnum() {
+		return Long.bitCount(raw);
+	}
+	
+	/**
+	 * Returns the integer part of mantissa as a long value. It holds
+	 * the same digits as {@code getIntRaw()} method returns.
+	 *
+	 * @return the integer part of mantissa
+	 */
+	public long getLongIntRaw() {
+		if (exp < 0) return 0l;
+		
+		int fractlen = getRawLength() + ~exp;
+		
+		if (fractlen > 0) return raw >>> fractlen;
+		else return raw;
+	}
+	
+	/**
+	 * Returns the fractional part of mantissa as a long value. It holds
+	 * the same digits as {@code getFractRaw()} method returns.
+	 *
+	 * @return the fractional part of mantissa
+	 */
+	public long getLongFractRaw() {
+		if (exp < 0) return raw;
+		
+		int fractlen = getRawLength() + ~exp;
+		
+		if (fractlen > 0) return raw & ((1l << fractlen) + 0xffffffff);
+		else return 0l;
+	}
+	
+	/**
+	 * Returns the length of fractional part of mantissa, that is the length
+	 * of {@code String} that {@code getFractRaw()} method returns.
+	 *
+	 * @return the length of fractional part of mantissa
+	 */
+	public int getFractLength() {
+		if (exp < 0) return getRawLength();
+		
+		int fractlen = getRawLength() + ~exp;
+		
+		if (fractlen > 0) return fractlen;
+		else return 0;
+	}
+	
+	/**
+	 * Returns true if there is a non-zero fractional part in instance number.
+	 *
+	 * @return true if there is a non-zero fractional part in instance number
+	 */
+	public boolean hasFraction() {
+		return getLongFractRaw() != 0;
 	}
 	
 	/**
@@ -542,23 +905,18 @@ public class SlicedDouble implements Cloneable {
 	 * @return the integer part as a {@code String} of instance number
 	 */
 	public String getIntRaw() {
-		if (intraw == null) {
-			if (exp != null) {
-				if (exp > 0) {
-					if (exp < raw.length()) {
-						intraw = raw.substring(0, exp+1);
-					} else {
-						intraw = raw;
-					}
-				} else if (exp == 0 && raw.indexOf('1') == 0) {
-					intraw = "1";
-				} else {
-					intraw = "";
-				}
-			}
+		String view = intraw;
+		
+		if (view == null && finite) {
+			long intpart = getLongIntRaw();
+			
+			if (intpart == 0) view = "";
+			else view = toBinaryString(intpart, getRawLength() + ~getFractLength() + 1);
+			
+			intraw = view;
 		}
 		
-		return intraw;
+		return view;
 	}
 	
 	/**
@@ -575,14 +933,12 @@ public class SlicedDouble implements Cloneable {
 	 * 			integer part of instance number
 	 */
 	public SlicedDouble getIntSD() {
-		if (intraw == null) getIntRaw();
-		
-		if (exp == null) {
+		if (!finite) {
 			return this;
 		} else if (exp > 0xffffffff) {
-			return new SlicedDouble(intraw, exp, negativesign);
+			return new SlicedDouble(getLongIntRaw(), exp, negative);
 		} else {
-			return new SlicedDouble("", 0, negativesign);
+			return new SlicedDouble(0l, 0, negative);
 		}
 	}
 	
@@ -599,21 +955,18 @@ public class SlicedDouble implements Cloneable {
 	 * @return the fractional part as a {@code String} of instance number
 	 */
 	public String getFractRaw() {
-		if (fractraw == null) {
-			if (exp != null) {
-				if (exp < 0) {
-					fractraw = raw;
-				} else if (exp < (raw.length() + 0xffffffff)) {
-					fractraw = raw.substring(exp+1);
-				} else {
-					fractraw = "";
-				}
+		String view = fractraw;
+		
+		if (view == null) {
+			if (finite) {
+				view = toBinaryString(getLongFractRaw(), getFractLength());
+				fractraw = view;
 			} else {
 				if (!Double.isNaN(number)) return "";
 			}
 		}
 		
-		return fractraw;
+		return view;
 	}
 	
 	/**
@@ -634,17 +987,18 @@ public class SlicedDouble implements Cloneable {
 	 * 			fractional part of instance number
 	 */
 	public SlicedDouble getFractSD() {
-		if (fractraw == null) getFractRaw();
-		
-		if (exp == null) {
+		if (!finite) {
 			if (Double.isNaN(number)) return this;
-			else if (number == Double.NEGATIVE_INFINITY) return new SlicedDouble("", 0, "-");
-			else return new SlicedDouble("", 0, "");
+			else return new SlicedDouble(0l, 0, negative);
 		} else {
-			if (fractraw.isEmpty()) return new SlicedDouble("", 0, negativesign);
+			long fract = getLongFractRaw();
+			
+			if (fract == 0) return new SlicedDouble(0l, 0, negative);
+			else if (exp < 0) return new SlicedDouble(fract, exp, negative);
 			else {
-				if (exp < 0) return new SlicedDouble(fractraw, exp, negativesign);
-				else return new SlicedDouble(fractraw, ~fractraw.indexOf('1'), negativesign);
+				// the exponent is the place of the first '1' in the fractional part
+				int leadzeros = getFractLength() + Long.numberOfLeadingZeros(fract) + 0xffffffc0;
+				return new SlicedDouble(fract, ~leadzeros, negative);
 			}
 		}
 	}
@@ -655,19 +1009,47 @@ public class SlicedDouble implements Cloneable {
 	 * @return true if number of instance is negative
 	 */
 	public boolean isNegative() {
-		if (negativesign.equals("-")) return true;
-		else return false;
+		return negative;
+	}
+	
+	/**
+	 * Returns true if instance holds Double.NaN.
+	 *
+	 * @return true if instance holds Double.NaN
+	 */
+	public boolean isNaN() {
+		return !finite && Double.isNaN(number);
+	}
+	
+	/**
+	 * Returns true if instance holds Double.POSITIVE_INFINITY or
+	 * Double.NEGATIVE_INFINITY.
+	 *
+	 * @return true if instance holds an infinity
+	 */
+	public boolean isInfinite() {
+		return !finite && !Double.isNaN(number);
+	}
+	
+	/**
+	 * Returns true if instance holds the '0.0' or '-0.0'.
+	 *
+	 * @return true if instance holds the zero
+	 */
+	public boolean isZero() {
+		return finite && raw == 0;
 	}
 	
 	/**
 	 * Returns internal {@code double} number without precompilation.
-	 * It is safe for use, as no mutation is applying. But if there is no
-	 * compilated number for now, than result would be null.
+	 * If the instance was not constructed from {@code double} number,
+	 * than result would be null, even after {@code getIEEE754()}.
 	 *
 	 * @return the {@code double} number
 	 */
 	public Double getDouble() {
-		return number;
+		if (compiled) return number;
+		else return null;
 	}
 	
 	/**
@@ -676,30 +1058,44 @@ public class SlicedDouble implements Cloneable {
 	 * @return the {@code String} representation number sign
 	 */
 	public String getNegativeSign() {
-		return negativesign;
+		if (negative) return "-";
+		else return "";
 	}
 	
 	/**
-	 * Sets sign to the current instance. If {@code String} argument is not
-	 * empty, the sign would be negative, and positive in other case.
+	 * Returns the instance with the giving sign. If {@code String} argument
+	 * is not empty, the sign would be negative, and positive in other case.
+	 * If the sign is the same, or if the instance holds Double.NaN,
+	 * the same instance is returned.
 	 *
 	 * @param sign the supplying sign to the number
+	 * @return the instance with the giving sign
+	 */
+	public SlicedDouble withSign(String sign) {
+		return withSign(!sign.isEmpty());
+	}
+	
+	/**
+	 * Returns the instance with the giving sign. If the sign is the same,
+	 * or if the instance holds Double.NaN, the same instance is returned.
+	 *
+	 * @param negative true if the sign must be negative
+	 * @return the instance with the giving sign
 	 */
-	public void setSign(String sign) {
-		if (number != null && Double.isNaN(number)) return;
-		if (number != null && negativesign != sign) number = -number;
-		if (sign.isEmpty()) negativesign = "";
-		else negativesign = "-";
+	public SlicedDouble withSign(boolean negative) {
+		if (this.negative == negative || isNaN()) return this;
+		
+		return new SlicedDouble(this, negative);
 	}
 	
 	/**
-	 * Reverses sign - is it was negative it become positive and vice versa.
+	 * Returns the instance with the reversed sign - is it was negative
+	 * it become positive and vice versa.
+	 *
+	 * @return the instance with the reversed sign
 	 */
-	public void reverseSign() {
-		if (Double.isNaN(number)) return;
-		if (number != null) number = -number;
-		if (negativesign.isEmpty()) negativesign = "-";
-		else negativesign = "";
+	public SlicedDouble negate() {
+		return withSign(!negative);
 	}
 	
 	/**
@@ -708,9 +1104,12 @@ public class SlicedDouble implements Cloneable {
 	 * @return true if the instance number is odd
 	 */
 	public boolean isOdd() {
-		if ((exp < raw.length() && raw.charAt(exp) == 0) || exp < 0 || exp >= raw.length())
-			return false;
-		return true;
+		if (exp < 0) return false;
+		
+		int fractlen = getRawLength() + ~exp;
+		
+		if (fractlen < 0) return false;
+		return ((raw >>> fractlen) & 1) == 1;
 	}
 	
 	/**
@@ -726,70 +1125,25 @@ public class SlicedDouble implements Cloneable {
 	 * binary 1 is odd number.
 	 */
 	public boolean isOddIntDigitsOrLeadZerosNum() {
-		if ((exp & 1) == 0 && raw.length() != 0) return true;
+		if ((exp & 1) == 0 && raw != 0) return true;
 		else return false;
 	}
 	
-	/** 
+	/**
 	 * Returns full binary representation in {@code String} format
 	 * of valid {@code double} number.
 	 *
-	 * <p><b>Attention:</b> this method may imply some mutation on the
-	 * internal raw {@code String}, in accordance with {@code double} format
-	 * transcription. So you should use carefully.
-	 *
 	 * @return the binary representation of internal number.
 	 */
 	public String getIEEE754Bin() {
-		if (ieee754bin == null) {
-			if (exp != null) {
-				if (negativesign == "-") ieee754bin = "1";
-				else ieee754bin = "0";
-				
-				int resultexp = exp + 1023;
-				
-				if (resultexp > 2046) {
-					ieee754bin += "11111111111" + "0000000000000000000000000000000000000000000000000000"; // +-Infinity
-				}
-				
-				getRoundedRawBin();
-				
-				String extroundedrawbin;
-				
-				if (roundedrawbin.length() == 0) 
-					extroundedrawbin = "0000000000000000000000000000000000000000000000000000";
-				else {
-					extroundedrawbin = roundedrawbin.substring(0);
-					for (int i = extroundedrawbin.length(); i < 52; i++) extroundedrawbin += '0';
-				}
-				
-				if (resultexp == 1023 && raw == "") {
-					ieee754bin += "00000000000" + extroundedrawbin;
-				} else if (resultexp > 0) {
-					String resultexpstr = Integer.toBinaryString(resultexp);
-					String addzeros = "";
-					
-					for (int i = resultexpstr.length(); i < 11; i++) addzeros += '0';
-					
-					resultexpstr = addzeros + resultexpstr;
-					
-					ieee754bin += resultexpstr + extroundedrawbin; // normal numbers
-				} else if (resultexp > 0xffffffcb) {
-					ieee754bin += "00000000000" + extroundedrawbin; // denormal numbers
-				} else {
-					ieee754bin += "000000000000000000000000000000000000000000000000000000000000000"; // sub-denormal == +-0.0
-				}
-			} else {
-				if (number == Double.POSITIVE_INFINITY)
-					ieee754bin = "0111111111110000000000000000000000000000000000000000000000000000";
-				else if (number == Double.NEGATIVE_INFINITY)
-					ieee754bin = "1111111111110000000000000000000000000000000000000000000000000000";
-				else 
-					ieee754bin = "0111111111111000000000000000000000000000000000000000000000000000";
-			}
+		String view = ieee754bin;
+		
+		if (view == null) {
+			view = toBinaryString(Double.doubleToLongBits(getIEEE754()), 64);
+			ieee754bin = view;
 		}
 		
-		return ieee754bin;	
+		return view;
 	}
 	
 	/**
@@ -798,10 +1152,6 @@ public class SlicedDouble implements Cloneable {
 	 * @return the deep cloned SlicedDouble instance
 	 */
 	public SlicedDouble clone() {
-		SlicedDouble sdnum = new SlicedDouble(this.number, this.negativesign, this.raw, 
-			this.longraw, this.intraw, this.fractraw, this.exp, this.onesnum, 
-			this.roundedrawbin, this.roundedrawhex, this.ieee754bin, this.ieee754hex);
-		
-		return sdnum;
+		return new SlicedDouble(this, negative);
 	}
 }
\ No newline at end of file